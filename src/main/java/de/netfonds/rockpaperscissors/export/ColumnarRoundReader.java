@@ -0,0 +1,196 @@
+package de.netfonds.rockpaperscissors.export;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads files written by {@link ColumnarRoundWriter}.
+ *
+ * <p>The header is parsed on construction. {@link #read(Visitor)} then streams the blocks,
+ * handing out each column of a round block as a read-only buffer, followed by the game
+ * results of the block.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class ColumnarRoundReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final Map<String, String> metadata;
+    private final Map<String, String> columns;
+    private final Map<String, String> gameColumns;
+
+    /**
+     * Creates a new {@link ColumnarRoundReader} instance and reads the header of the file.
+     *
+     * @param file the file to read
+     * @throws IllegalStateException if the file is not a columnar round file
+     */
+    public ColumnarRoundReader(Path file) {
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            final ByteBuffer preamble = readFully(ColumnarRoundWriter.MAGIC.length + Short.BYTES);
+            final byte[] magic = new byte[ColumnarRoundWriter.MAGIC.length];
+            preamble.get(magic);
+            if (!Arrays.equals(magic, ColumnarRoundWriter.MAGIC) || preamble.getShort() != ColumnarRoundWriter.VERSION) {
+                throw new IllegalStateException("Not a columnar round file: " + file);
+            }
+            this.metadata = readEntries();
+            this.columns = readEntries();
+            this.gameColumns = readEntries();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the metadata of the file, including hand shape and result names.
+     *
+     * @return the metadata entries in file order
+     */
+    public Map<String, String> metadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the column names and types of the file.
+     *
+     * @return the column types by name in file order
+     */
+    public Map<String, String> columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the names and types of the game result columns of the file.
+     *
+     * @return the game column types by name in file order
+     */
+    public Map<String, String> gameColumns() {
+        return gameColumns;
+    }
+
+    /**
+     * Streams all blocks of the file to the given visitor.
+     *
+     * @param visitor the visitor receiving the blocks
+     * @return the number of rounds recorded in the footer
+     * @throws IllegalStateException if the file is corrupt or truncated
+     */
+    public long read(Visitor visitor) {
+        try {
+            while (true) {
+                final byte blockType = readFully(Byte.BYTES).get();
+                switch (blockType) {
+                    case ColumnarRoundWriter.ROUND_BLOCK -> {
+                        final ByteBuffer header = readFully(Long.BYTES + 2 * Integer.BYTES);
+                        final long firstRound = header.getLong();
+                        final int rowCount = header.getInt();
+                        final int gameCount = header.getInt();
+                        final ByteBuffer data = readFully(3 * rowCount);
+                        if (rowCount > 0) {
+                            visitor.onRounds(firstRound,
+                                    data.slice(0, rowCount).asReadOnlyBuffer(),
+                                    data.slice(rowCount, rowCount).asReadOnlyBuffer(),
+                                    data.slice(2 * rowCount, rowCount).asReadOnlyBuffer());
+                        }
+                        readGames(gameCount, visitor);
+                    }
+                    case ColumnarRoundWriter.END_BLOCK -> {
+                        return readFully(2 * Long.BYTES).getLong();
+                    }
+                    default -> throw new IllegalStateException("Unknown block type: " + blockType);
+                }
+            }
+        } catch (EOFException e) {
+            throw new IllegalStateException("Truncated columnar round file", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void readGames(int gameCount, Visitor visitor) throws IOException {
+        final int columnBytes = gameCount * Long.BYTES;
+        final ByteBuffer games = readFully(4 * columnBytes);
+        for (int i = 0; i < gameCount; i++) {
+            final int offset = i * Long.BYTES;
+            visitor.onGameResult(games.getLong(offset), new GameResult(
+                    games.getLong(columnBytes + offset),
+                    games.getLong(2 * columnBytes + offset),
+                    games.getLong(3 * columnBytes + offset)));
+        }
+    }
+
+    private Map<String, String> readEntries() throws IOException {
+        final int count = readFully(Integer.BYTES).getInt();
+        final Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put(readString(), readString());
+        }
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private String readString() throws IOException {
+        final int length = readFully(Integer.BYTES).getInt();
+        final ByteBuffer bytes = readFully(length);
+        return StandardCharsets.UTF_8.decode(bytes).toString();
+    }
+
+    private ByteBuffer readFully(int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Receives the blocks of a columnar round file in file order.
+     */
+    public interface Visitor {
+
+        /**
+         * Called for every block of rounds.
+         *
+         * @param firstRound        index of the first round of the block
+         * @param handShapesPlayerA hand shape ordinals of Player A, one byte per round
+         * @param handShapesPlayerB hand shape ordinals of Player B, one byte per round
+         * @param results           result ordinals, one byte per round
+         */
+        void onRounds(long firstRound, ByteBuffer handShapesPlayerA, ByteBuffer handShapesPlayerB, ByteBuffer results);
+
+        /**
+         * Called for the aggregated result of every game, after the rounds of the block it finished in.
+         *
+         * @param endRound number of rounds recorded when the game finished
+         * @param result   the result of the game
+         */
+        default void onGameResult(long endRound, GameResult result) {
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package de.netfonds.rockpaperscissors.export;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundRecorder;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import de.netfonds.rockpaperscissors.game.HandShape;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the rounds and results of games into a self-describing columnar binary file.
+ *
+ * <p>Rounds are collected column by column in direct buffers and written as one block per
+ * {@code batchSize} rounds with a single gathering write, so exporting is bound by disk
+ * throughput. Game results are collected the same way and written with the block of rounds
+ * they finished in, so short games do not cause additional writes. The file can be read back
+ * with {@link ColumnarRoundReader}.
+ *
+ * <p>File layout, all numbers little-endian, strings as {@code int} length plus UTF-8 bytes:
+ * <pre>
+ * header:      "RPSC" | short version | int metadataCount | (string key, string value)*
+ *              | int columnCount | (string name, string type)* | int gameColumnCount | (string name, string type)*
+ * round block: byte 'R' | long firstRound | int rowCount | int gameCount
+ *              | one array of rowCount values per column | one array of gameCount values per game column
+ * footer:      byte 'E' | long numberOfRounds | long numberOfGames
+ * </pre>
+ * The {@code round} column is not stored: row {@code i} of a block is round {@code firstRound + i}.
+ * The {@code endRound} game column holds the number of rounds recorded when the game finished.
+ * The metadata lists the hand shape and result names per ordinal along with any entries
+ * passed by the caller, e.g. a session id or seed.
+ *
+ * <p>The class is not thread-safe. It is meant to be registered as {@link GameRoundRecorder}
+ * of a single {@link de.netfonds.rockpaperscissors.game.Game}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class ColumnarRoundWriter implements GameRoundRecorder, AutoCloseable {
+
+    /**
+     * Default number of rounds per block.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1 << 20;
+
+    static final byte[] MAGIC = "RPSC".getBytes(StandardCharsets.US_ASCII);
+    static final short VERSION = 1;
+    static final byte ROUND_BLOCK = 'R';
+    static final byte END_BLOCK = 'E';
+
+    static final String ROUND_COLUMN = "round";
+    static final String HAND_SHAPE_PLAYER_A_COLUMN = "handShapePlayerA";
+    static final String HAND_SHAPE_PLAYER_B_COLUMN = "handShapePlayerB";
+    static final String RESULT_COLUMN = "result";
+    static final String END_ROUND_COLUMN = "endRound";
+    static final String PLAYER_A_WINS_COLUMN = "playerAWins";
+    static final String PLAYER_B_WINS_COLUMN = "playerBWins";
+    static final String DRAWS_COLUMN = "draws";
+    static final String HAND_SHAPES_KEY = "handShapes";
+    static final String RESULTS_KEY = "results";
+
+    private static final int ROUND_BLOCK_HEADER_BYTES = Byte.BYTES + Long.BYTES + 2 * Integer.BYTES;
+    private static final int END_BLOCK_BYTES = Byte.BYTES + 2 * Long.BYTES;
+
+    /**
+     * Maximum number of game results per block. A block is written early once reached.
+     */
+    private static final int MAX_GAMES_PER_BLOCK = 1 << 14;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer blockHeader;
+    private final ByteBuffer handShapesPlayerA;
+    private final ByteBuffer handShapesPlayerB;
+    private final ByteBuffer results;
+    private final ByteBuffer gameEndRounds;
+    private final ByteBuffer gamePlayerAWins;
+    private final ByteBuffer gamePlayerBWins;
+    private final ByteBuffer gameDraws;
+    private final ByteBuffer[] block;
+
+    private long numberOfRounds;
+    private long numberOfGames;
+    private long firstRoundOfBatch;
+    private boolean closed;
+
+    /**
+     * Creates a new {@link ColumnarRoundWriter} instance with {@link #DEFAULT_BATCH_SIZE} rounds per block.
+     *
+     * @param file       the file to write, replaced if it exists
+     * @param handShapes all hand shapes of the game variant, indexed by ordinal
+     * @param metadata   additional entries for the file header, e.g. session id or seed
+     */
+    public ColumnarRoundWriter(Path file, HandShape[] handShapes, Map<String, String> metadata) {
+        this(file, handShapes, metadata, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ColumnarRoundWriter} instance.
+     *
+     * @param file       the file to write, replaced if it exists
+     * @param handShapes all hand shapes of the game variant, indexed by ordinal
+     * @param metadata   additional entries for the file header, e.g. session id or seed
+     * @param batchSize  number of rounds per block
+     */
+    public ColumnarRoundWriter(Path file, HandShape[] handShapes, Map<String, String> metadata, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.blockHeader = ByteBuffer.allocateDirect(ROUND_BLOCK_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.handShapesPlayerA = ByteBuffer.allocateDirect(batchSize);
+        this.handShapesPlayerB = ByteBuffer.allocateDirect(batchSize);
+        this.results = ByteBuffer.allocateDirect(batchSize);
+        final int gameColumnBytes = Math.min(batchSize, MAX_GAMES_PER_BLOCK) * Long.BYTES;
+        this.gameEndRounds = ByteBuffer.allocateDirect(gameColumnBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.gamePlayerAWins = ByteBuffer.allocateDirect(gameColumnBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.gamePlayerBWins = ByteBuffer.allocateDirect(gameColumnBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.gameDraws = ByteBuffer.allocateDirect(gameColumnBytes).order(ByteOrder.LITTLE_ENDIAN);
+        this.block = new ByteBuffer[]{blockHeader, handShapesPlayerA, handShapesPlayerB, results,
+                gameEndRounds, gamePlayerAWins, gamePlayerBWins, gameDraws};
+
+        final Map<String, String> header = new LinkedHashMap<>();
+        header.put(HAND_SHAPES_KEY, Arrays.stream(handShapes).map(String::valueOf).collect(Collectors.joining(",")));
+        header.put(RESULTS_KEY, Arrays.stream(GameRoundResult.values()).map(Enum::name).collect(Collectors.joining(",")));
+        header.putAll(metadata);
+        try {
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            writeFully(encodeHeader(header));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onRoundPlayed(HandShape handShapePlayerA, HandShape handShapePlayerB, GameRoundResult result) {
+        handShapesPlayerA.put((byte) handShapePlayerA.ordinal());
+        handShapesPlayerB.put((byte) handShapePlayerB.ordinal());
+        results.put((byte) result.ordinal());
+        numberOfRounds++;
+        if (!results.hasRemaining()) {
+            flush();
+        }
+    }
+
+    @Override
+    public void onGameFinished(GameResult result) {
+        gameEndRounds.putLong(numberOfRounds);
+        gamePlayerAWins.putLong(result.numberOfPlayerAWins());
+        gamePlayerBWins.putLong(result.numberOfPlayerBWins());
+        gameDraws.putLong(result.numberOfDraws());
+        numberOfGames++;
+        if (!gameDraws.hasRemaining()) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the rounds and game results collected so far as a block.
+     */
+    public void flush() {
+        final int rowCount = results.position();
+        final int gameCount = gameDraws.position() / Long.BYTES;
+        if (rowCount == 0 && gameCount == 0) {
+            return;
+        }
+        blockHeader.clear();
+        blockHeader.put(ROUND_BLOCK).putLong(firstRoundOfBatch).putInt(rowCount).putInt(gameCount).flip();
+        long remainingBytes = 0;
+        for (final ByteBuffer column : block) {
+            if (column != blockHeader) {
+                column.flip();
+            }
+            remainingBytes += column.remaining();
+        }
+        try {
+            while (remainingBytes > 0) {
+                remainingBytes -= channel.write(block);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (final ByteBuffer column : block) {
+            column.clear();
+        }
+        firstRoundOfBatch = numberOfRounds;
+    }
+
+    /**
+     * Writes the remaining rounds and the footer and closes the file.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            flush();
+            final ByteBuffer footer = ByteBuffer.allocate(END_BLOCK_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            footer.put(END_BLOCK).putLong(numberOfRounds).putLong(numberOfGames).flip();
+            writeFully(footer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer encodeHeader(Map<String, String> metadata) {
+        final Map<String, String> columns = new LinkedHashMap<>();
+        columns.put(ROUND_COLUMN, "int64");
+        columns.put(HAND_SHAPE_PLAYER_A_COLUMN, "uint8");
+        columns.put(HAND_SHAPE_PLAYER_B_COLUMN, "uint8");
+        columns.put(RESULT_COLUMN, "uint8");
+        final Map<String, String> gameColumns = new LinkedHashMap<>();
+        gameColumns.put(END_ROUND_COLUMN, "int64");
+        gameColumns.put(PLAYER_A_WINS_COLUMN, "int64");
+        gameColumns.put(PLAYER_B_WINS_COLUMN, "int64");
+        gameColumns.put(DRAWS_COLUMN, "int64");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(headerSize(metadata) + headerSize(columns) + headerSize(gameColumns)
+                        + MAGIC.length + Short.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC).putShort(VERSION);
+        putEntries(buffer, metadata);
+        putEntries(buffer, columns);
+        putEntries(buffer, gameColumns);
+        return buffer.flip();
+    }
+
+    private static int headerSize(Map<String, String> entries) {
+        return Integer.BYTES + entries.entrySet().stream()
+                .mapToInt(entry -> 2 * Integer.BYTES
+                        + entry.getKey().getBytes(StandardCharsets.UTF_8).length
+                        + entry.getValue().getBytes(StandardCharsets.UTF_8).length)
+                .sum();
+    }
+
+    private static void putEntries(ByteBuffer buffer, Map<String, String> entries) {
+        buffer.putInt(entries.size());
+        entries.forEach((key, value) -> {
+            putString(buffer, key);
+            putString(buffer, value);
+        });
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private void writeFully(ByteBuffer buffer) {
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
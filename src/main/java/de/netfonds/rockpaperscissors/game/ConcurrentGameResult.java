@@ -0,0 +1,214 @@
+package de.netfonds.rockpaperscissors.game;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Lock-free accumulator of {@link GameResult}s across concurrently running games.
+ *
+ * <p>Each simulation thread obtains its own {@link Recorder} and registers it as
+ * {@link GameRoundListener} of its {@link Game}. A recorder counts rounds in plain fields
+ * and flushes them in batches to a stripe of counters owned exclusively by it. Stripes are
+ * padded to 128 bytes so recorders on different cores never share a cache line.
+ *
+ * <p>{@link #snapshot()} may be called from any thread at any time. It sums the stripes
+ * without blocking the recorders and returns a consistent result: every stripe is read
+ * as of one of its flushes, so wins, losses and draws always add up to the rounds counted.
+ * Rounds not yet flushed are not included.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class ConcurrentGameResult {
+
+    /**
+     * Default number of rounds a {@link Recorder} counts locally before flushing.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * Number of longs per stripe. 16 longs are 128 bytes, which also keeps adjacent-line
+     * prefetching from pairing the cache lines of two stripes.
+     */
+    private static final int STRIPE_LENGTH = 16;
+
+    private static final int SEQUENCE = 0;
+    private static final int PLAYER_A_WINS = 1;
+    private static final int PLAYER_B_WINS = 2;
+    private static final int DRAWS = 3;
+
+    /**
+     * Counters of all stripes. Stripe {@code i} starts at {@code (i + 1) * STRIPE_LENGTH},
+     * leaving a padding stripe next to the array header.
+     */
+    private final long[] stripes;
+
+    private final int batchSize;
+
+    /**
+     * Offsets of the stripes not owned by an open {@link Recorder}.
+     */
+    private final ConcurrentLinkedQueue<Integer> freeStripes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a new {@link ConcurrentGameResult} instance with one stripe per available processor.
+     */
+    public ConcurrentGameResult() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ConcurrentGameResult} instance.
+     *
+     * @param maxRecorders maximum number of recorders open at the same time
+     * @param batchSize    number of rounds a recorder counts locally before flushing
+     */
+    public ConcurrentGameResult(int maxRecorders, int batchSize) {
+        if (maxRecorders < 1) {
+            throw new IllegalArgumentException("At least one recorder required");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.stripes = new long[(maxRecorders + 1) * STRIPE_LENGTH];
+        this.batchSize = batchSize;
+        for (int i = 1; i <= maxRecorders; i++) {
+            freeStripes.add(i * STRIPE_LENGTH);
+        }
+    }
+
+    /**
+     * Creates a recorder for use by a single thread.
+     *
+     * <p>The recorder continues the counters of the stripe it is assigned, so rounds of
+     * closed recorders are retained.
+     *
+     * @return a new recorder
+     * @throws IllegalStateException if {@code maxRecorders} recorders are already open
+     */
+    public Recorder newRecorder() {
+        final Integer offset = freeStripes.poll();
+        if (offset == null) {
+            throw new IllegalStateException("All recorders in use");
+        }
+        return new Recorder(offset);
+    }
+
+    /**
+     * Returns the results flushed by all recorders so far.
+     *
+     * @return a consistent snapshot of the accumulated results
+     */
+    public GameResult snapshot() {
+        long playerAWins = 0;
+        long playerBWins = 0;
+        long draws = 0;
+        for (int offset = STRIPE_LENGTH; offset < stripes.length; offset += STRIPE_LENGTH) {
+            while (true) {
+                final long sequence = (long) COUNTERS.getAcquire(stripes, offset + SEQUENCE);
+                if ((sequence & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                final long stripePlayerAWins = (long) COUNTERS.getOpaque(stripes, offset + PLAYER_A_WINS);
+                final long stripePlayerBWins = (long) COUNTERS.getOpaque(stripes, offset + PLAYER_B_WINS);
+                final long stripeDraws = (long) COUNTERS.getOpaque(stripes, offset + DRAWS);
+                VarHandle.loadLoadFence();
+                if ((long) COUNTERS.getAcquire(stripes, offset + SEQUENCE) == sequence) {
+                    playerAWins += stripePlayerAWins;
+                    playerBWins += stripePlayerBWins;
+                    draws += stripeDraws;
+                    break;
+                }
+            }
+        }
+        return new GameResult(playerAWins, playerBWins, draws);
+    }
+
+    /**
+     * Single-threaded writer of one stripe.
+     *
+     * <p>Counts rounds locally and flushes every {@code batchSize} rounds, at the end of
+     * every game and on {@link #close()}. Instances are not thread-safe.
+     */
+    public final class Recorder implements GameRoundListener, AutoCloseable {
+        private final int offset;
+        private long pendingPlayerAWins;
+        private long pendingPlayerBWins;
+        private long pendingDraws;
+        private int pendingRounds;
+        private boolean closed;
+
+        /**
+         * Private constructor - use {@link ConcurrentGameResult#newRecorder()} instead.
+         *
+         * @param offset the offset of the owned stripe
+         */
+        private Recorder(int offset) {
+            this.offset = offset;
+        }
+
+        @Override
+        public void onRoundPlayed(GameRoundResult result) {
+            switch (result) {
+                case PLAYER_A_WINS -> pendingPlayerAWins++;
+                case PLAYER_B_WINS -> pendingPlayerBWins++;
+                case DRAW -> pendingDraws++;
+                default -> throw new IllegalArgumentException("Unsupported GameRoundResult: " + result.name());
+            }
+            if (++pendingRounds == batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void onGameFinished(GameResult result) {
+            flush();
+        }
+
+        /**
+         * Publishes the locally counted rounds to {@link ConcurrentGameResult#snapshot()}.
+         */
+        public void flush() {
+            if (pendingRounds == 0) {
+                return;
+            }
+            if (closed) {
+                throw new IllegalStateException("Recorder is closed");
+            }
+            final long sequence = (long) COUNTERS.getOpaque(stripes, offset + SEQUENCE);
+            COUNTERS.setOpaque(stripes, offset + SEQUENCE, sequence + 1);
+            VarHandle.storeStoreFence();
+            add(PLAYER_A_WINS, pendingPlayerAWins);
+            add(PLAYER_B_WINS, pendingPlayerBWins);
+            add(DRAWS, pendingDraws);
+            COUNTERS.setRelease(stripes, offset + SEQUENCE, sequence + 2);
+            pendingPlayerAWins = 0;
+            pendingPlayerBWins = 0;
+            pendingDraws = 0;
+            pendingRounds = 0;
+        }
+
+        /**
+         * Flushes the remaining rounds and releases the stripe for other recorders.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            freeStripes.add(offset);
+        }
+
+        private void add(int counter, long delta) {
+            final int index = offset + counter;
+            COUNTERS.setOpaque(stripes, index, (long) COUNTERS.getOpaque(stripes, index) + delta);
+        }
+    }
+}
@@ -3,13 +3,11 @@ package de.netfonds.rockpaperscissors.game;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Class for Rock Paper Scissors game variants.
@@ -42,10 +40,34 @@ public class Game<S extends HandShape> {
     private final GameStrategy<S> playerBGameStrategy;
 
     /**
-     * Rule set mapping each hand shape to its corresponding game rule.
-     * Converted to unmodifiable map for efficient lookup during gameplay.
+     * Rule set compiled into a dense table for efficient lookup during gameplay.
      */
-    private final Map<S, GameRule<S>> ruleSet;
+    private final GameRuleSet<S> ruleSet;
+
+    /**
+     * Listeners notified after every round.
+     * Kept as an array to avoid iterator allocation in the game loop.
+     */
+    private final GameRoundListener[] roundListeners;
+
+    /**
+     * Recorders notified with the hand shapes after every round.
+     * Kept as an array to avoid iterator allocation in the game loop.
+     */
+    private final GameRoundRecorder[] roundRecorders;
+
+    /**
+     * Descriptors of both strategies, used to select a specialized game loop.
+     */
+    private final StrategyDescriptor<S> playerADescriptor;
+    private final StrategyDescriptor<S> playerBDescriptor;
+
+    /**
+     * Round result per {@code playerAIndex * numberOfPlayerBHandShapes + playerBIndex}, where the
+     * index of a constant strategy is always {@code 0}. Entries are {@code null} for missing rules.
+     * The table itself is {@code null} if a strategy is stateful.
+     */
+    private final GameRoundResult[] outcomes;
 
     /**
      * Creates a new {@link Game} instance.
@@ -53,25 +75,90 @@ public class Game<S extends HandShape> {
      *
      * @param playerAGameStrategy Strategy for Player A's move selection.
      * @param playerBGameStrategy Strategy for Player B's move selection.
-     * @param ruleSet             Rule set mapping each hand shape to its corresponding game rule.
+     * @param ruleSet             Game rules, not validated. Missing rules surface while playing.
      */
     protected Game(GameStrategy<S> playerAGameStrategy,
                    GameStrategy<S> playerBGameStrategy,
                    Set<GameRule<S>> ruleSet) {
+        this(playerAGameStrategy, playerBGameStrategy, GameRuleSet.compile(ruleSet), List.of(), List.of());
+    }
+
+    /**
+     * Creates a new {@link Game} instance.
+     * Constructor is private. {@link Game} is created via {@link Builder}.
+     *
+     * @param playerAGameStrategy Strategy for Player A's move selection.
+     * @param playerBGameStrategy Strategy for Player B's move selection.
+     * @param ruleSet             Compiled game rules.
+     * @param roundListeners      Listeners notified after every round.
+     * @param roundRecorders      Recorders notified with the hand shapes after every round.
+     */
+    protected Game(GameStrategy<S> playerAGameStrategy,
+                   GameStrategy<S> playerBGameStrategy,
+                   GameRuleSet<S> ruleSet,
+                   List<GameRoundListener> roundListeners,
+                   List<GameRoundRecorder> roundRecorders) {
         this.playerAGameStrategy = playerAGameStrategy;
         this.playerBGameStrategy = playerBGameStrategy;
-        this.ruleSet = ruleSet
-                .stream()
-                .collect(Collectors.toUnmodifiableMap(
-                        GameRule::getHandShape,
-                        Function.identity()));
+        this.ruleSet = ruleSet;
+        this.roundListeners = roundListeners.toArray(new GameRoundListener[0]);
+        this.roundRecorders = roundRecorders.toArray(new GameRoundRecorder[0]);
+        this.playerADescriptor = playerAGameStrategy.descriptor();
+        this.playerBDescriptor = playerBGameStrategy.descriptor();
+        this.outcomes = precomputeOutcomes();
+    }
+
+    /**
+     * Precomputes the round result for every pair of hand shapes the strategies can draw.
+     *
+     * @return the outcome table, {@code null} if a strategy is stateful
+     */
+    private GameRoundResult[] precomputeOutcomes() {
+        final int numberOfPlayerAHandShapes = numberOfHandShapes(playerADescriptor);
+        final int numberOfPlayerBHandShapes = numberOfHandShapes(playerBDescriptor);
+        if (numberOfPlayerAHandShapes == 0 || numberOfPlayerBHandShapes == 0) {
+            return null;
+        }
+        final GameRoundResult[] table = new GameRoundResult[numberOfPlayerAHandShapes * numberOfPlayerBHandShapes];
+        for (int i = 0; i < numberOfPlayerAHandShapes; i++) {
+            for (int j = 0; j < numberOfPlayerBHandShapes; j++) {
+                final GameRuleResult result = ruleSet.findRuleResult(
+                        handShape(playerADescriptor, i),
+                        handShape(playerBDescriptor, j));
+                table[i * numberOfPlayerBHandShapes + j] = result == null ? null : switch (result) {
+                    case WIN -> GameRoundResult.PLAYER_A_WINS;
+                    case LOSE -> GameRoundResult.PLAYER_B_WINS;
+                    case DRAW -> GameRoundResult.DRAW;
+                };
+            }
+        }
+        return table;
+    }
+
+    private static <S extends HandShape> int numberOfHandShapes(StrategyDescriptor<S> descriptor) {
+        if (descriptor instanceof StrategyDescriptor.Constant) {
+            return 1;
+        }
+        if (descriptor instanceof StrategyDescriptor.Sampled<S> sampled) {
+            return sampled.numberOfHandShapes();
+        }
+        return 0;
+    }
+
+    private static <S extends HandShape> S handShape(StrategyDescriptor<S> descriptor, int index) {
+        if (descriptor instanceof StrategyDescriptor.Constant<S> constant) {
+            return constant.handShape();
+        }
+        return ((StrategyDescriptor.Sampled<S>) descriptor).handShape(index);
     }
 
     /**
      * Plays a single round of the game.
      *
      * <p>Retrieves hand shapes from both players, applies game rules to determine
-     * the winner, and logs the result at debug level.
+     * the winner, logs the result at debug level, lets both strategies observe the opponent's
+     * hand shape and notifies the {@link GameRoundListener}s and {@link GameRoundRecorder}s.
+     * Does not allocate.
      *
      * @return the result of this game round
      * @throws GameRuleNotFoundException if no rule is found for Player A's hand shape
@@ -80,59 +167,193 @@ public class Game<S extends HandShape> {
         final S handShapePlayerA = playerAGameStrategy.getNextHandShape();
         final S handShapePlayerB = playerBGameStrategy.getNextHandShape();
 
-        return Optional.ofNullable(ruleSet.get(handShapePlayerA))
-                .map(rule -> rule.getRuleResult(handShapePlayerB))
-                .map(result -> switch (result) {
-                    case WIN -> {
-                        logger.debug("Player A wins. ({} > {})", handShapePlayerA, handShapePlayerB);
-                        yield GameRoundResult.PLAYER_A_WINS;
-                    }
-                    case LOSE -> {
-                        logger.debug("Player B wins. ({} < {})", handShapePlayerA, handShapePlayerB);
-                        yield GameRoundResult.PLAYER_B_WINS;
-                    }
-                    case DRAW -> {
-                        logger.debug("Round is a draw. ({})", handShapePlayerA);
-                        yield GameRoundResult.DRAW;
-                    }
-                })
-                .orElseThrow(() -> new GameRuleNotFoundException(handShapePlayerA));
+        final GameRoundResult result = switch (ruleSet.getRuleResult(handShapePlayerA, handShapePlayerB)) {
+            case WIN -> {
+                logger.debug("Player A wins. ({} > {})", handShapePlayerA, handShapePlayerB);
+                yield GameRoundResult.PLAYER_A_WINS;
+            }
+            case LOSE -> {
+                logger.debug("Player B wins. ({} < {})", handShapePlayerA, handShapePlayerB);
+                yield GameRoundResult.PLAYER_B_WINS;
+            }
+            case DRAW -> {
+                logger.debug("Round is a draw. ({})", handShapePlayerA);
+                yield GameRoundResult.DRAW;
+            }
+        };
+        playerAGameStrategy.observe(handShapePlayerB);
+        playerBGameStrategy.observe(handShapePlayerA);
+        notifyRoundListeners(handShapePlayerA, handShapePlayerB, result);
+        return result;
     }
 
     /**
      * Plays a complete game with the specified number of rounds.
      *
      * <p>Executes the given number of rounds, tracking wins/losses/draws.
+     * Every round result is passed to the registered {@link GameRoundListener}s and
+     * {@link GameRoundRecorder}s.
+     * Apart from the returned {@link GameResult} and its logging the loop does not allocate,
+     * provided the strategies and listeners do not.
+     *
+     * <p>Unless debug logging is enabled, the loop is specialized by the {@link StrategyDescriptor}s
+     * of both strategies. Constant and sampled strategies are drawn from by index and the result
+     * is looked up in a precomputed table. Two constant strategies without listeners need no loop
+     * at all. Games with a stateful strategy use the generic loop.
      *
      * @param numberOfRounds the number of rounds to play
      * @return aggregated results of all rounds
      * @throws IllegalArgumentException if a round result is not recognized
      */
     public GameResult playGame(int numberOfRounds) {
-        int numberOfPlayerAWins = 0;
-        int numberOfPlayerBWins = 0;
-        int numberOfDraws = 0;
-        for (int i = 0; i < numberOfRounds; i++) {
-            logger.debug("Round {}:\t", i + 1);
-            final GameRoundResult result = playRound();
-            switch (result) {
-                case PLAYER_A_WINS -> numberOfPlayerAWins++;
-                case PLAYER_B_WINS -> numberOfPlayerBWins++;
-                case DRAW -> numberOfDraws++;
-                default -> throw new IllegalArgumentException("Unsupported GameRoundResult: " + result.name());
+        final int[] counts = new int[GameRoundResult.values().length];
+        if (outcomes == null || logger.isDebugEnabled()) {
+            playGenericRounds(numberOfRounds, counts);
+        } else if (playerADescriptor instanceof StrategyDescriptor.Constant<S> playerA) {
+            if (playerBDescriptor instanceof StrategyDescriptor.Constant<S> playerB) {
+                playConstantRounds(numberOfRounds, playerA, playerB, counts);
+            } else {
+                playConstantVersusSampledRounds(numberOfRounds, playerA,
+                        (StrategyDescriptor.Sampled<S>) playerBDescriptor, counts);
             }
+        } else if (playerBDescriptor instanceof StrategyDescriptor.Constant<S> playerB) {
+            playSampledVersusConstantRounds(numberOfRounds,
+                    (StrategyDescriptor.Sampled<S>) playerADescriptor, playerB, counts);
+        } else {
+            playSampledRounds(numberOfRounds,
+                    (StrategyDescriptor.Sampled<S>) playerADescriptor,
+                    (StrategyDescriptor.Sampled<S>) playerBDescriptor, counts);
         }
         final GameResult result = new GameResult(
-                numberOfPlayerAWins,
-                numberOfPlayerBWins,
-                numberOfDraws
+                counts[GameRoundResult.PLAYER_A_WINS.ordinal()],
+                counts[GameRoundResult.PLAYER_B_WINS.ordinal()],
+                counts[GameRoundResult.DRAW.ordinal()]
         );
+        for (final GameRoundListener roundListener : roundListeners) {
+            roundListener.onGameFinished(result);
+        }
+        for (final GameRoundRecorder roundRecorder : roundRecorders) {
+            roundRecorder.onGameFinished(result);
+        }
         logger.info("Player A won {} rounds. ({} %)", result.numberOfPlayerAWins(), result.playerAWinRate());
         logger.info("Player B won {} rounds. ({} %)", result.numberOfPlayerBWins(), result.playerBWinRate());
         logger.info("{} rounds were drawn. ({} %)", result.numberOfDraws(), result.drawRate());
         return result;
     }
 
+    /**
+     * Plays rounds by asking both strategies for their hand shapes.
+     */
+    private void playGenericRounds(int numberOfRounds, int[] counts) {
+        for (int i = 0; i < numberOfRounds; i++) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Round {}:\t", i + 1);
+            }
+            count(playRound(), counts);
+        }
+    }
+
+    /**
+     * Plays rounds of two constant strategies. Every round has the same result.
+     */
+    private void playConstantRounds(int numberOfRounds,
+                                    StrategyDescriptor.Constant<S> playerA,
+                                    StrategyDescriptor.Constant<S> playerB,
+                                    int[] counts) {
+        if (numberOfRounds <= 0) {
+            return;
+        }
+        final GameRoundResult result = outcome(0, playerA.handShape());
+        if (roundListeners.length == 0 && roundRecorders.length == 0) {
+            counts[result.ordinal()] += numberOfRounds;
+            return;
+        }
+        for (int i = 0; i < numberOfRounds; i++) {
+            notifyRoundListeners(playerA.handShape(), playerB.handShape(), result);
+            count(result, counts);
+        }
+    }
+
+    /**
+     * Plays rounds of a constant Player A against a sampled Player B: one draw per round.
+     */
+    private void playConstantVersusSampledRounds(int numberOfRounds,
+                                                 StrategyDescriptor.Constant<S> playerA,
+                                                 StrategyDescriptor.Sampled<S> playerB,
+                                                 int[] counts) {
+        final S handShapePlayerA = playerA.handShape();
+        for (int i = 0; i < numberOfRounds; i++) {
+            final int indexPlayerB = playerB.nextIndex();
+            final GameRoundResult result = outcome(indexPlayerB, handShapePlayerA);
+            notifyRoundListeners(handShapePlayerA, playerB.handShape(indexPlayerB), result);
+            count(result, counts);
+        }
+    }
+
+    /**
+     * Plays rounds of a sampled Player A against a constant Player B: one draw per round.
+     */
+    private void playSampledVersusConstantRounds(int numberOfRounds,
+                                                 StrategyDescriptor.Sampled<S> playerA,
+                                                 StrategyDescriptor.Constant<S> playerB,
+                                                 int[] counts) {
+        final S handShapePlayerB = playerB.handShape();
+        for (int i = 0; i < numberOfRounds; i++) {
+            final int indexPlayerA = playerA.nextIndex();
+            final S handShapePlayerA = playerA.handShape(indexPlayerA);
+            final GameRoundResult result = outcome(indexPlayerA, handShapePlayerA);
+            notifyRoundListeners(handShapePlayerA, handShapePlayerB, result);
+            count(result, counts);
+        }
+    }
+
+    /**
+     * Plays rounds of two sampled strategies: two draws per round.
+     */
+    private void playSampledRounds(int numberOfRounds,
+                                   StrategyDescriptor.Sampled<S> playerA,
+                                   StrategyDescriptor.Sampled<S> playerB,
+                                   int[] counts) {
+        final int numberOfPlayerBHandShapes = playerB.numberOfHandShapes();
+        for (int i = 0; i < numberOfRounds; i++) {
+            final int indexPlayerA = playerA.nextIndex();
+            final int indexPlayerB = playerB.nextIndex();
+            final S handShapePlayerA = playerA.handShape(indexPlayerA);
+            final GameRoundResult result = outcome(indexPlayerA * numberOfPlayerBHandShapes + indexPlayerB, handShapePlayerA);
+            notifyRoundListeners(handShapePlayerA, playerB.handShape(indexPlayerB), result);
+            count(result, counts);
+        }
+    }
+
+    /**
+     * Looks up a precomputed round result.
+     *
+     * @throws GameRuleNotFoundException if no rule is found for Player A's hand shape
+     */
+    private GameRoundResult outcome(int index, S handShapePlayerA) {
+        final GameRoundResult result = outcomes[index];
+        if (result == null) {
+            throw new GameRuleNotFoundException(handShapePlayerA);
+        }
+        return result;
+    }
+
+    private void notifyRoundListeners(S handShapePlayerA, S handShapePlayerB, GameRoundResult result) {
+        for (final GameRoundListener roundListener : roundListeners) {
+            roundListener.onRoundPlayed(result);
+        }
+        for (final GameRoundRecorder roundRecorder : roundRecorders) {
+            roundRecorder.onRoundPlayed(handShapePlayerA, handShapePlayerB, result);
+        }
+    }
+
+    private static void count(GameRoundResult result, int[] counts) {
+        switch (result) {
+            case PLAYER_A_WINS, PLAYER_B_WINS, DRAW -> counts[result.ordinal()]++;
+            default -> throw new IllegalArgumentException("Unsupported GameRoundResult: " + result.name());
+        }
+    }
+
     /**
      * GameRuleNotFoundException is a runtime exception which can be thrown to track a game does not have
      * a rule for a given {@link HandShape}.
@@ -155,9 +376,25 @@ public class Game<S extends HandShape> {
      * @param <S> the type of hand shapes used in this game variant
      */
     public static class Builder<S extends HandShape> {
+        private static final GameRuleSet<ClassicHandShape> CLASSIC_RULES = GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        );
+        private static final GameRuleSet<LizardHandShape> LIZARD_RULES = GameRuleSet.of(
+                GameRule.of(LizardHandShape.ROCK, LizardHandShape.SCISSORS, LizardHandShape.LIZARD),
+                GameRule.of(LizardHandShape.PAPER, LizardHandShape.ROCK, LizardHandShape.SPOCK),
+                GameRule.of(LizardHandShape.SCISSORS, LizardHandShape.PAPER, LizardHandShape.LIZARD),
+                GameRule.of(LizardHandShape.LIZARD, LizardHandShape.PAPER, LizardHandShape.SPOCK),
+                GameRule.of(LizardHandShape.SPOCK, LizardHandShape.ROCK, LizardHandShape.SCISSORS)
+        );
+
         private GameStrategy<S> playerAStrategy;
         private GameStrategy<S> playerBStrategy;
         private Set<GameRule<S>> rules = Set.of();
+        private GameRuleSet<S> ruleSet;
+        private final List<GameRoundListener> roundListeners = new ArrayList<>();
+        private final List<GameRoundRecorder> roundRecorders = new ArrayList<>();
 
         /**
          * Sets the strategy for Player A's move selection.
@@ -190,22 +427,67 @@ public class Game<S extends HandShape> {
         @SafeVarargs
         public final Builder<S> withRules(GameRule<S>... rules) {
             this.rules = Set.of(rules);
+            this.ruleSet = null;
+            return this;
+        }
+
+        /**
+         * Sets a compiled {@link GameRuleSet} for this game variant.
+         *
+         * @param ruleSet the {@link GameRuleSet} for this game variant.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withRules(GameRuleSet<S> ruleSet) {
+            this.ruleSet = Objects.requireNonNull(ruleSet, "Rule set required");
+            this.rules = Set.of();
+            return this;
+        }
+
+        /**
+         * Adds a {@link GameRoundListener} notified after every round.
+         *
+         * @param roundListener listener notified after every round.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withRoundListener(GameRoundListener roundListener) {
+            this.roundListeners.add(Objects.requireNonNull(roundListener, "Round listener required"));
+            return this;
+        }
+
+        /**
+         * Adds a {@link GameRoundRecorder} notified with the hand shapes after every round.
+         *
+         * @param roundRecorder recorder notified after every round.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withRoundRecorder(GameRoundRecorder roundRecorder) {
+            this.roundRecorders.add(Objects.requireNonNull(roundRecorder, "Round recorder required"));
             return this;
         }
 
         /**
          * Builds the game variants instance.
          *
+         * <p>Rules set via {@link #withRules(GameRule[])} are validated on first use and
+         * shared with every other game using equal rules, see {@link GameRuleSet#of(Set)}.
+         *
          * @return the game variants instance.
+         * @throws GameRuleNotFoundException if a hand shape has no rule
+         * @throws IllegalArgumentException  if the rules are empty, inconsistent or unbalanced
          */
         public Game<S> build() {
             Objects.requireNonNull(playerAStrategy, "Player A strategy required");
             Objects.requireNonNull(playerBStrategy, "Player B strategy required");
-            if (rules.isEmpty()) {
+            if (ruleSet == null && rules.isEmpty()) {
                 throw new IllegalArgumentException("At least one game rule required");
             }
 
-            return new Game<>(playerAStrategy, playerBStrategy, rules);
+            return new Game<>(
+                    playerAStrategy,
+                    playerBStrategy,
+                    ruleSet != null ? ruleSet : GameRuleSet.of(rules),
+                    List.copyOf(roundListeners),
+                    List.copyOf(roundRecorders));
         }
 
         /**
@@ -214,18 +496,21 @@ public class Game<S extends HandShape> {
          * @return a classic rock, paper, scissors game variant.
          */
         public static Game<ClassicHandShape> newClassicHandShapeGame() {
-            final ThreadLocalRandom random = ThreadLocalRandom.current();
-            final ClassicHandShape[] shapes = ClassicHandShape.values();
+            return newClassicHandShapeGame(ThreadLocalRandom.current().nextLong());
+        }
 
+        /**
+         * Creates a classic rock, paper, scissors game variant with a reproducible Player B.
+         *
+         * @param seed the seed of Player B's random strategy.
+         * @return a classic rock, paper, scissors game variant.
+         */
+        public static Game<ClassicHandShape> newClassicHandShapeGame(long seed) {
             final var builder = new Game.Builder<ClassicHandShape>();
             return builder
-                    .withPlayerA(() -> ClassicHandShape.PAPER)
-                    .withPlayerB(() -> shapes[random.nextInt(shapes.length)])
-                    .withRules(
-                            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
-                            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
-                            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
-                    )
+                    .withPlayerA(GameStrategy.constant(ClassicHandShape.PAPER))
+                    .withPlayerB(GameStrategy.random(ClassicHandShape.values(), seed))
+                    .withRules(CLASSIC_RULES)
                     .build();
 
         }
@@ -236,20 +521,21 @@ public class Game<S extends HandShape> {
          * @return a fancy rock, paper, scissors game variant.
          */
         public static Game<LizardHandShape> newLizardHandShapeGame() {
-            final ThreadLocalRandom random = ThreadLocalRandom.current();
-            final LizardHandShape[] shapes = LizardHandShape.values();
+            return newLizardHandShapeGame(ThreadLocalRandom.current().nextLong());
+        }
 
+        /**
+         * Creates a fancy rock, paper, scissors game variant with a reproducible Player B.
+         *
+         * @param seed the seed of Player B's random strategy.
+         * @return a fancy rock, paper, scissors game variant.
+         */
+        public static Game<LizardHandShape> newLizardHandShapeGame(long seed) {
             final var builder = new Game.Builder<LizardHandShape>();
             return builder
-                    .withPlayerA(() -> LizardHandShape.PAPER)
-                    .withPlayerB(() -> shapes[random.nextInt(shapes.length)])
-                    .withRules(
-                            GameRule.of(LizardHandShape.ROCK, LizardHandShape.SCISSORS, LizardHandShape.LIZARD),
-                            GameRule.of(LizardHandShape.PAPER, LizardHandShape.ROCK, LizardHandShape.SPOCK),
-                            GameRule.of(LizardHandShape.SCISSORS, LizardHandShape.PAPER, LizardHandShape.LIZARD),
-                            GameRule.of(LizardHandShape.LIZARD, LizardHandShape.PAPER, LizardHandShape.SPOCK),
-                            GameRule.of(LizardHandShape.SPOCK, LizardHandShape.ROCK, LizardHandShape.PAPER)
-                    )
+                    .withPlayerA(GameStrategy.constant(LizardHandShape.PAPER))
+                    .withPlayerB(GameStrategy.random(LizardHandShape.values(), seed))
+                    .withRules(LIZARD_RULES)
                     .build();
 
         }
@@ -18,16 +18,16 @@ import java.math.RoundingMode;
  * @since 1.0
  */
 public record GameResult(
-        int numberOfPlayerAWins,
-        int numberOfPlayerBWins,
-        int numberOfDraws
+        long numberOfPlayerAWins,
+        long numberOfPlayerBWins,
+        long numberOfDraws
 ) {
     /**
      * Returns the aggregated number of rounds resulting in this GameResult.
      *
      * @return The number of rounds played.
      */
-    public int numberOfRounds() {
+    public long numberOfRounds() {
         return numberOfPlayerAWins + numberOfPlayerBWins + numberOfDraws;
     }
 
@@ -64,9 +64,8 @@ public record GameResult(
      * @param number The number the calculated percentage is based on.
      * @return Percentage of played rounds.
      */
-    private BigDecimal getRate(int number) {
+    private BigDecimal getRate(long number) {
         final BigDecimal numberOfRounds = BigDecimal.valueOf(numberOfRounds());
-        System.out.println(numberOfRounds);
         return number > 0 ?
                 BigDecimal.valueOf(number)
                         .movePointRight(2)
@@ -0,0 +1,33 @@
+package de.netfonds.rockpaperscissors.game;
+
+/**
+ * Callback notified by a {@link Game} after every played round.
+ *
+ * <p>Listeners are called synchronously from the game loop, in the order they were
+ * registered via {@link Game.Builder#withRoundListener(GameRoundListener)}.
+ * Implementations should therefore return quickly and avoid allocation.
+ *
+ * <p>Listeners needing the hand shapes of both players implement {@link GameRoundRecorder}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface GameRoundListener {
+
+    /**
+     * Called after a round was played.
+     *
+     * @param result the result of the round
+     */
+    void onRoundPlayed(GameRoundResult result);
+
+    /**
+     * Called after all rounds of {@link Game#playGame(int)} were played.
+     *
+     * @param result the aggregated results of the game
+     */
+    default void onGameFinished(GameResult result) {
+    }
+}
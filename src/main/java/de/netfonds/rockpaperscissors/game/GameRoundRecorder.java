@@ -0,0 +1,37 @@
+package de.netfonds.rockpaperscissors.game;
+
+/**
+ * Callback notified by a {@link Game} after every played round, together with the
+ * hand shapes of both players.
+ *
+ * <p>Meant for listeners recording what was played, not just who won. Listeners only
+ * interested in the result implement {@link GameRoundListener} instead.
+ *
+ * <p>Recorders are called synchronously from the game loop, after all {@link GameRoundListener}s
+ * and in the order they were registered via {@link Game.Builder#withRoundRecorder(GameRoundRecorder)}.
+ * Implementations should therefore return quickly and avoid allocation.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface GameRoundRecorder {
+
+    /**
+     * Called after a round was played.
+     *
+     * @param handShapePlayerA the hand shape played by Player A
+     * @param handShapePlayerB the hand shape played by Player B
+     * @param result           the result of the round
+     */
+    void onRoundPlayed(HandShape handShapePlayerA, HandShape handShapePlayerB, GameRoundResult result);
+
+    /**
+     * Called after all rounds of {@link Game#playGame(int)} were played.
+     *
+     * @param result the aggregated results of the game
+     */
+    default void onGameFinished(GameResult result) {
+    }
+}
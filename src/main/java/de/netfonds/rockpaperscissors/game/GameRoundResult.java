@@ -4,13 +4,13 @@ package de.netfonds.rockpaperscissors.game;
  * Enumeration representing possible outcomes of a single game round.
  *
  * <p>Each round has exactly one outcome from the game engine's perspective.
- * Package-private as it's an internal implementation detail.
+ * Published to {@link GameRoundListener}s after every round.
  *
  * @author Daniel Kleinehagenbrock
  * @version 1.0
  * @since 1.0
  */
-enum GameRoundResult {
+public enum GameRoundResult {
     /**
      * Player A wins this round
      */
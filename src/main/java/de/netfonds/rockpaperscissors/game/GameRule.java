@@ -1,5 +1,6 @@
 package de.netfonds.rockpaperscissors.game;
 
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -9,7 +10,8 @@ import java.util.Set;
  * This design enables flexible rule definitions for different game variants.
  *
  * <p>The class is immutable and thread-safe. Rules are typically created using
- * the static factory method {@link #of(HandShape, HandShape...)}.
+ * the static factory method {@link #of(HandShape, HandShape...)}. Rules with the same
+ * hand shape and defeated hand shapes are equal.
  *
  * @param <S> the type of hand shapes used in this rule
  * @author Daniel Kleinehagenbrock
@@ -69,6 +71,15 @@ public class GameRule<S extends HandShape> {
         return handShape;
     }
 
+    /**
+     * Returns the hand shapes this shape defeats.
+     *
+     * @return unmodifiable set of defeated hand shapes
+     */
+    Set<S> getDefeatingHandShapes() {
+        return defeatingHandShapes;
+    }
+
     /**
      * Determines the result when this hand shape meets another.
      *
@@ -91,4 +102,20 @@ public class GameRule<S extends HandShape> {
         }
         return GameRuleResult.LOSE;
     }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameRule<?> other)) {
+            return false;
+        }
+        return handShape.equals(other.handShape) && defeatingHandShapes.equals(other.defeatingHandShapes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(handShape, defeatingHandShapes);
+    }
 }
@@ -0,0 +1,239 @@
+package de.netfonds.rockpaperscissors.game;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Validated and precomputed set of {@link GameRule}s for one game variant.
+ *
+ * <p>The rules are compiled into a dense table holding the {@link GameRuleResult} for every
+ * pair of hand shapes, indexed by {@link HandShape#ordinal()}. A lookup is a single array
+ * access instead of a map lookup plus a set lookup.
+ *
+ * <p>All rules must use hand shapes of a single variant. Rule sets created via {@link #of(Set)}
+ * are additionally checked once to be
+ * <ul>
+ *   <li>complete: every hand shape of the variant has exactly one rule,</li>
+ *   <li>antisymmetric: of two different hand shapes exactly one defeats the other,
+ *       and no hand shape defeats itself,</li>
+ *   <li>balanced: every hand shape defeats the same number of hand shapes.</li>
+ * </ul>
+ * They are interned by their rules, so equal rule sets share a single instance across
+ * all games and threads and repeated creation is a hash lookup.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @param <S> the type of hand shapes used in this rule set
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public final class GameRuleSet<S extends HandShape> {
+
+    /**
+     * Validated rule sets by their rules.
+     */
+    private static final Map<Set<? extends GameRule<?>>, GameRuleSet<?>> REGISTRY = new ConcurrentHashMap<>();
+
+    /**
+     * All hand shapes of the game variant, indexed by ordinal. Empty for an empty rule set.
+     */
+    private final S[] handShapes;
+
+    /**
+     * Result per {@code handShape.ordinal() * handShapes.length + otherHandShape.ordinal()},
+     * from the perspective of {@code handShape}. {@code null} if {@code handShape} has no rule.
+     */
+    private final GameRuleResult[] results;
+
+    /**
+     * Private constructor - use {@link #of(Set)} instead.
+     *
+     * @param handShapes all hand shapes of the game variant, indexed by ordinal
+     * @param results    the dense result table
+     */
+    private GameRuleSet(final S[] handShapes, final GameRuleResult[] results) {
+        this.handShapes = handShapes;
+        this.results = results;
+    }
+
+    /**
+     * Returns the validated rule set for the given rules.
+     *
+     * @param <E>   the type of hand shapes
+     * @param rules the rules of the game variant
+     * @return the shared rule set for these rules
+     * @see #of(Set)
+     */
+    @SafeVarargs
+    public static <E extends HandShape> GameRuleSet<E> of(final GameRule<E>... rules) {
+        return of(Set.of(rules));
+    }
+
+    /**
+     * Returns the validated rule set for the given rules.
+     *
+     * <p>The rules are validated and compiled on first use only. Later calls with equal
+     * rules return the same instance.
+     *
+     * @param <E>   the type of hand shapes
+     * @param rules the rules of the game variant
+     * @return the shared rule set for these rules
+     * @throws Game.GameRuleNotFoundException if a hand shape has no rule
+     * @throws IllegalArgumentException       if the rules are empty, inconsistent or unbalanced
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends HandShape> GameRuleSet<E> of(final Set<GameRule<E>> rules) {
+        final Set<GameRule<E>> key = Set.copyOf(rules);
+        final GameRuleSet<?> ruleSet = REGISTRY.get(key);
+        if (ruleSet != null) {
+            return (GameRuleSet<E>) ruleSet;
+        }
+        return (GameRuleSet<E>) REGISTRY.computeIfAbsent(key, k -> compile(key).validate(key));
+    }
+
+    /**
+     * Compiles the given rules without validating them.
+     *
+     * <p>Missing rules are reported by {@link #getRuleResult(HandShape, HandShape)}.
+     *
+     * @param <E>   the type of hand shapes
+     * @param rules the rules of the game variant
+     * @return a new rule set, not shared
+     * @throws IllegalArgumentException if a hand shape has more than one rule or
+     *                                  if the rules mix hand shapes of different variants
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends HandShape> GameRuleSet<E> compile(final Set<GameRule<E>> rules) {
+        if (rules.isEmpty()) {
+            return new GameRuleSet<>((E[]) new HandShape[0], new GameRuleResult[0]);
+        }
+        final E anyHandShape = rules.iterator().next().getHandShape();
+        final Class<?> variant = ((Enum<?>) anyHandShape).getDeclaringClass();
+        final E[] handShapes = (E[]) variant.getEnumConstants();
+        final GameRuleResult[] results = new GameRuleResult[handShapes.length * handShapes.length];
+        for (final GameRule<E> rule : rules) {
+            requireVariant(rule.getHandShape(), variant);
+            for (final E defeatedHandShape : rule.getDefeatingHandShapes()) {
+                requireVariant(defeatedHandShape, variant);
+            }
+            final int offset = rule.getHandShape().ordinal() * handShapes.length;
+            if (results[offset] != null) {
+                throw new IllegalArgumentException("More than one game rule for hand shape: " + rule.getHandShape());
+            }
+            for (final E otherHandShape : handShapes) {
+                results[offset + otherHandShape.ordinal()] = rule.getRuleResult(otherHandShape);
+            }
+        }
+        return new GameRuleSet<>(handShapes, results);
+    }
+
+    /**
+     * Checks the hand shape to belong to the given variant, so its ordinal indexes the right table.
+     *
+     * @param handShape the hand shape to check
+     * @param variant   the enumeration of the variant
+     * @throws IllegalArgumentException if the hand shape belongs to another variant
+     */
+    private static void requireVariant(final HandShape handShape, final Class<?> variant) {
+        if (((Enum<?>) handShape).getDeclaringClass() != variant) {
+            throw new IllegalArgumentException("Hand shape " + handShape + " is not a " + variant.getSimpleName());
+        }
+    }
+
+    /**
+     * Checks this rule set to be complete, antisymmetric and balanced.
+     *
+     * <p>Self-defeating rules are checked on the rules themselves, as the table always holds
+     * {@link GameRuleResult#DRAW} for equal hand shapes.
+     *
+     * @param rules the rules this rule set was compiled from
+     * @return this rule set
+     * @throws Game.GameRuleNotFoundException if a hand shape has no rule
+     * @throws IllegalArgumentException       if the rules are empty, inconsistent or unbalanced
+     */
+    private GameRuleSet<S> validate(final Set<GameRule<S>> rules) {
+        if (handShapes.length == 0) {
+            throw new IllegalArgumentException("At least one game rule required");
+        }
+        for (final GameRule<S> rule : rules) {
+            if (rule.getDefeatingHandShapes().contains(rule.getHandShape())) {
+                throw new IllegalArgumentException("Hand shape must not defeat itself: " + rule.getHandShape());
+            }
+        }
+        final int[] numberOfDefeatedHandShapes = new int[handShapes.length];
+        for (final S handShape : handShapes) {
+            for (final S otherHandShape : handShapes) {
+                if (handShape == otherHandShape) {
+                    continue;
+                }
+                final GameRuleResult result = getRuleResult(handShape, otherHandShape);
+                if (result == getRuleResult(otherHandShape, handShape)) {
+                    throw new IllegalArgumentException("Exactly one of " + handShape + " and " + otherHandShape
+                            + " must defeat the other");
+                }
+                if (result == GameRuleResult.WIN) {
+                    numberOfDefeatedHandShapes[handShape.ordinal()]++;
+                }
+            }
+        }
+        for (final S handShape : handShapes) {
+            if (numberOfDefeatedHandShapes[handShape.ordinal()] != numberOfDefeatedHandShapes[0]) {
+                throw new IllegalArgumentException("Unbalanced game rules: " + handShapes[0] + " defeats "
+                        + numberOfDefeatedHandShapes[0] + " hand shapes, " + handShape + " defeats "
+                        + numberOfDefeatedHandShapes[handShape.ordinal()]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of hand shapes of the game variant.
+     *
+     * @return the number of hand shapes
+     */
+    public int numberOfHandShapes() {
+        return handShapes.length;
+    }
+
+    /**
+     * Returns all hand shapes of the game variant, indexed by ordinal.
+     *
+     * @return a copy of the hand shapes
+     */
+    public S[] getHandShapes() {
+        return handShapes.clone();
+    }
+
+    /**
+     * Determines the result when a hand shape meets another.
+     *
+     * @param handShape      the hand shape whose perspective the result is given from
+     * @param otherHandShape the opposing hand shape
+     * @return the comparison result
+     * @throws Game.GameRuleNotFoundException if {@code handShape} has no rule
+     */
+    public GameRuleResult getRuleResult(final S handShape, final S otherHandShape) {
+        final GameRuleResult result = findRuleResult(handShape, otherHandShape);
+        if (result == null) {
+            throw new Game.GameRuleNotFoundException(handShape);
+        }
+        return result;
+    }
+
+    /**
+     * Determines the result when a hand shape meets another.
+     *
+     * @param handShape      the hand shape whose perspective the result is given from
+     * @param otherHandShape the opposing hand shape
+     * @return the comparison result, {@code null} if {@code handShape} has no rule
+     */
+    GameRuleResult findRuleResult(final S handShape, final S otherHandShape) {
+        final int numberOfHandShapes = handShapes.length;
+        final int ordinal = handShape.ordinal();
+        return ordinal < numberOfHandShapes
+                ? results[ordinal * numberOfHandShapes + otherHandShape.ordinal()]
+                : null;
+    }
+}
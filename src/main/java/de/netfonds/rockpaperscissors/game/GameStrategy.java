@@ -1,5 +1,7 @@
 package de.netfonds.rockpaperscissors.game;
 
+import java.util.Objects;
+
 /**
  * Functional interface for defining player strategies in Rock Paper Scissors games.
  *
@@ -30,4 +32,105 @@ interface GameStrategy<S extends HandShape> {
      * @return the hand shape to play (must not be null)
      */
     S getNextHandShape();
+
+    /**
+     * Called by a {@link Game} after every round with the hand shape the opponent played.
+     *
+     * <p>Does nothing by default. Strategies reacting to their opponent override this method
+     * to advance their state. The specialized loops selected for constant and sampled strategies
+     * skip the call, so only strategies described as {@link StrategyDescriptor.Stateful} can
+     * rely on it. Others may still receive it, e.g. while debug logging is enabled.
+     *
+     * @param opponentHandShape the hand shape the opponent played in the last round
+     */
+    default void observe(S opponentHandShape) {
+    }
+
+    /**
+     * Describes how this strategy chooses its hand shapes.
+     *
+     * <p>Lets a {@link Game} replace calls of {@link #getNextHandShape()} by a specialized loop.
+     * Defaults to {@link StrategyDescriptor.Stateful}, which is always correct. Strategies created
+     * by the factory methods of this interface return a more specific descriptor.
+     *
+     * @return the descriptor of this strategy
+     */
+    default StrategyDescriptor<S> descriptor() {
+        return new StrategyDescriptor.Stateful<>();
+    }
+
+    /**
+     * Creates a strategy always playing the same hand shape.
+     *
+     * @param <E>       the type of hand shapes
+     * @param handShape the hand shape to play
+     * @return a new constant strategy
+     */
+    static <E extends HandShape> GameStrategy<E> constant(final E handShape) {
+        final StrategyDescriptor.Constant<E> descriptor =
+                new StrategyDescriptor.Constant<>(Objects.requireNonNull(handShape, "Hand shape required"));
+        return new GameStrategy<>() {
+            @Override
+            public E getNextHandShape() {
+                return handShape;
+            }
+
+            @Override
+            public StrategyDescriptor<E> descriptor() {
+                return descriptor;
+            }
+        };
+    }
+
+    /**
+     * Creates a strategy playing uniformly random hand shapes from a seeded generator.
+     *
+     * <p>Two strategies created with the same hand shapes and seed play the same sequence,
+     * which makes games reproducible. The strategy is not thread-safe and does not allocate.
+     *
+     * @param <E>        the type of hand shapes
+     * @param handShapes the hand shapes to choose from
+     * @param seed       the seed of the random generator
+     * @return a new random strategy
+     */
+    static <E extends HandShape> GameStrategy<E> random(final E[] handShapes, final long seed) {
+        return sampled(new StrategyDescriptor.Uniform<>(handShapes, seed));
+    }
+
+    /**
+     * Creates a strategy playing hand shapes with the given weights from a seeded generator.
+     *
+     * <p>Two strategies created with the same arguments play the same sequence.
+     * The strategy is not thread-safe and does not allocate.
+     *
+     * @param <E>        the type of hand shapes
+     * @param handShapes the hand shapes to choose from
+     * @param weights    the non-negative weight per hand shape
+     * @param seed       the seed of the random generator
+     * @return a new weighted random strategy
+     */
+    static <E extends HandShape> GameStrategy<E> weighted(final E[] handShapes, final double[] weights, final long seed) {
+        return sampled(new StrategyDescriptor.Weighted<>(handShapes, weights, seed));
+    }
+
+    /**
+     * Creates a strategy drawing from the given descriptor.
+     *
+     * @param <E>        the type of hand shapes
+     * @param descriptor the descriptor to draw from
+     * @return a new strategy sharing the descriptor's random generator
+     */
+    private static <E extends HandShape> GameStrategy<E> sampled(final StrategyDescriptor.Sampled<E> descriptor) {
+        return new GameStrategy<>() {
+            @Override
+            public E getNextHandShape() {
+                return descriptor.handShape(descriptor.nextIndex());
+            }
+
+            @Override
+            public StrategyDescriptor<E> descriptor() {
+                return descriptor;
+            }
+        };
+    }
 }
@@ -18,5 +18,14 @@ package de.netfonds.rockpaperscissors.game;
  */
 public sealed interface HandShape permits ClassicHandShape, LizardHandShape {
 
+    /**
+     * Returns the position of this hand shape within its variant.
+     *
+     * <p>Implemented by {@link Enum#ordinal()} for every permitted enumeration. Used to
+     * index primitive lookup tables instead of hashing hand shapes.
+     *
+     * @return the zero based position of this hand shape
+     */
+    int ordinal();
 }
 
@@ -0,0 +1,204 @@
+package de.netfonds.rockpaperscissors.game;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Describes how a {@link GameStrategy} chooses its hand shapes.
+ *
+ * <p>A {@link Game} uses the descriptors of both players to pick a specialized game loop:
+ * a {@link Constant} strategy never has to be called, and {@link Sampled} strategies are
+ * drawn from directly by index, so the round result becomes a lookup in a table precomputed
+ * per index. Strategies described as {@link Stateful} are treated as opaque and played
+ * through {@link GameStrategy#getNextHandShape()}.
+ *
+ * @param <S> the type of hand shapes of the described strategy
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @see GameStrategy#descriptor()
+ * @since 1.0
+ */
+public sealed interface StrategyDescriptor<S extends HandShape>
+        permits StrategyDescriptor.Constant, StrategyDescriptor.Sampled, StrategyDescriptor.Stateful {
+
+    /**
+     * Strategy always playing the same hand shape.
+     *
+     * @param handShape the hand shape played in every round
+     * @param <S>       the type of hand shapes
+     */
+    record Constant<S extends HandShape>(S handShape) implements StrategyDescriptor<S> {
+    }
+
+    /**
+     * Strategy of arbitrary, possibly stateful, behaviour.
+     *
+     * @param <S> the type of hand shapes
+     */
+    record Stateful<S extends HandShape>() implements StrategyDescriptor<S> {
+    }
+
+    /**
+     * Strategy drawing hand shapes independently from a fixed distribution.
+     *
+     * <p>{@link #nextIndex()} draws from the same random generator as the described strategy,
+     * so a game drawing through the descriptor plays exactly the sequence the strategy would.
+     * Instances are not thread-safe.
+     *
+     * @param <S> the type of hand shapes
+     */
+    sealed interface Sampled<S extends HandShape> extends StrategyDescriptor<S> permits Uniform, Weighted {
+
+        /**
+         * Returns the number of hand shapes drawn from.
+         *
+         * @return the number of hand shapes
+         */
+        int numberOfHandShapes();
+
+        /**
+         * Returns the hand shape at the given index.
+         *
+         * @param index the index, between {@code 0} and {@link #numberOfHandShapes()}
+         * @return the hand shape at the index
+         */
+        S handShape(int index);
+
+        /**
+         * Draws the index of the next hand shape to play.
+         *
+         * @return the index of the next hand shape
+         */
+        int nextIndex();
+    }
+
+    /**
+     * Strategy drawing hand shapes with equal probability.
+     *
+     * @param <S> the type of hand shapes
+     */
+    final class Uniform<S extends HandShape> implements Sampled<S> {
+        private final S[] handShapes;
+        private final SplittableRandom random;
+
+        /**
+         * Creates a new {@link Uniform} instance.
+         *
+         * @param handShapes the hand shapes to choose from
+         * @param seed       the seed of the random generator
+         */
+        Uniform(final S[] handShapes, final long seed) {
+            if (handShapes.length == 0) {
+                throw new IllegalArgumentException("At least one hand shape required");
+            }
+            this.handShapes = handShapes.clone();
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public int numberOfHandShapes() {
+            return handShapes.length;
+        }
+
+        @Override
+        public S handShape(final int index) {
+            return handShapes[index];
+        }
+
+        @Override
+        public int nextIndex() {
+            return random.nextInt(handShapes.length);
+        }
+    }
+
+    /**
+     * Strategy drawing hand shapes with given weights.
+     *
+     * <p>Uses Vose's alias method: a draw costs one uniform index plus one coin flip,
+     * independent of the number of hand shapes.
+     *
+     * @param <S> the type of hand shapes
+     */
+    final class Weighted<S extends HandShape> implements Sampled<S> {
+        private final S[] handShapes;
+
+        /**
+         * Probability of keeping an index instead of taking its alias.
+         */
+        private final double[] probabilities;
+
+        private final int[] aliases;
+        private final SplittableRandom random;
+
+        /**
+         * Creates a new {@link Weighted} instance.
+         *
+         * @param handShapes the hand shapes to choose from
+         * @param weights    the non-negative weight per hand shape
+         * @param seed       the seed of the random generator
+         */
+        Weighted(final S[] handShapes, final double[] weights, final long seed) {
+            if (handShapes.length == 0 || handShapes.length != weights.length) {
+                throw new IllegalArgumentException("One weight per hand shape required");
+            }
+            final double sum = Arrays.stream(weights).sum();
+            if (Arrays.stream(weights).anyMatch(weight -> !(weight >= 0)) || !(sum > 0)) {
+                throw new IllegalArgumentException("Weights must be non-negative with a positive sum");
+            }
+            this.handShapes = handShapes.clone();
+            this.probabilities = new double[weights.length];
+            this.aliases = new int[weights.length];
+            this.random = new SplittableRandom(seed);
+
+            final int n = weights.length;
+            final double[] scaled = new double[n];
+            final int[] small = new int[n];
+            final int[] large = new int[n];
+            int numberOfSmall = 0;
+            int numberOfLarge = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = weights[i] * n / sum;
+                if (scaled[i] < 1) {
+                    small[numberOfSmall++] = i;
+                } else {
+                    large[numberOfLarge++] = i;
+                }
+            }
+            while (numberOfSmall > 0 && numberOfLarge > 0) {
+                final int less = small[--numberOfSmall];
+                final int more = large[--numberOfLarge];
+                probabilities[less] = scaled[less];
+                aliases[less] = more;
+                scaled[more] += scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small[numberOfSmall++] = more;
+                } else {
+                    large[numberOfLarge++] = more;
+                }
+            }
+            while (numberOfLarge > 0) {
+                probabilities[large[--numberOfLarge]] = 1;
+            }
+            // only reached through rounding errors
+            while (numberOfSmall > 0) {
+                probabilities[small[--numberOfSmall]] = 1;
+            }
+        }
+
+        @Override
+        public int numberOfHandShapes() {
+            return handShapes.length;
+        }
+
+        @Override
+        public S handShape(final int index) {
+            return handShapes[index];
+        }
+
+        @Override
+        public int nextIndex() {
+            final int index = random.nextInt(handShapes.length);
+            return random.nextDouble() < probabilities[index] ? index : aliases[index];
+        }
+    }
+}
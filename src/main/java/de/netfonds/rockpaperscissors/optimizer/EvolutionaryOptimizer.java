@@ -0,0 +1,327 @@
+package de.netfonds.rockpaperscissors.optimizer;
+
+import de.netfonds.rockpaperscissors.game.GameRule;
+import de.netfonds.rockpaperscissors.game.GameRuleSet;
+import de.netfonds.rockpaperscissors.game.GameStrategy;
+import de.netfonds.rockpaperscissors.game.HandShape;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Evolutionary search for strong {@link FiniteStateStrategy} candidates against an opponent population.
+ *
+ * <p>Each generation is evaluated in parallel by a {@link FitnessEvaluator}. The best candidates
+ * survive unchanged (elitism), the remaining slots are filled with mutated copies of candidates
+ * picked by tournament selection.
+ *
+ * <p>Selection and mutation are driven by a seeded {@link SplittableRandom}. The search is
+ * reproducible as long as the opponents are.
+ *
+ * @param <S> the type of hand shapes used in this game variant
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class EvolutionaryOptimizer<S extends HandShape> {
+
+    private static final Logger logger = LogManager.getLogger(EvolutionaryOptimizer.class);
+
+    private final S[] handShapes;
+    private final FitnessEvaluator<S> fitnessEvaluator;
+    private final int populationSize;
+    private final int numberOfStates;
+    private final int numberOfGenerations;
+    private final int eliteSize;
+    private final int tournamentSize;
+    private final double mutationRate;
+    private final long seed;
+
+    /**
+     * Creates a new {@link EvolutionaryOptimizer} instance.
+     * Constructor is private. {@link EvolutionaryOptimizer} is created via {@link Builder}.
+     *
+     * @param builder the builder holding the configuration
+     */
+    private EvolutionaryOptimizer(final Builder<S> builder) {
+        this.handShapes = builder.ruleSet.getHandShapes();
+        this.fitnessEvaluator = new FitnessEvaluator<>(
+                builder.ruleSet,
+                builder.opponents,
+                builder.gamesPerOpponent,
+                builder.roundsPerGame);
+        this.populationSize = builder.populationSize;
+        this.numberOfStates = builder.numberOfStates;
+        this.numberOfGenerations = builder.numberOfGenerations;
+        this.eliteSize = builder.eliteSize;
+        this.tournamentSize = builder.tournamentSize;
+        this.mutationRate = builder.mutationRate;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Runs the evolutionary search.
+     *
+     * @return the fittest candidate found in any generation
+     */
+    public Candidate<S> optimize() {
+        final SplittableRandom random = new SplittableRandom(seed);
+        List<FiniteStateStrategy<S>> population = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            population.add(FiniteStateStrategy.random(handShapes, numberOfStates, random));
+        }
+
+        Candidate<S> best = null;
+        for (int generation = 0; generation < numberOfGenerations; generation++) {
+            final double[] fitness = fitnessEvaluator.evaluate(population);
+            final int[] ranking = rank(fitness);
+            final Candidate<S> generationBest = new Candidate<>(population.get(ranking[0]), fitness[ranking[0]]);
+            if (best == null || generationBest.fitness() > best.fitness()) {
+                best = generationBest;
+            }
+            logger.info("Generation {}: best fitness {}", generation + 1, generationBest.fitness());
+            if (generation < numberOfGenerations - 1) {
+                population = breed(population, fitness, ranking, random);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Orders the population indices by descending fitness.
+     *
+     * @param fitness the fitness per candidate
+     * @return the candidate indices, fittest first
+     */
+    private static int[] rank(final double[] fitness) {
+        return IntStream.range(0, fitness.length)
+                .boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> fitness[i]).reversed())
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Creates the next generation from the current one.
+     *
+     * @param population the current generation
+     * @param fitness    the fitness per candidate
+     * @param ranking    the candidate indices, fittest first
+     * @param random     source of randomness
+     * @return the next generation
+     */
+    private List<FiniteStateStrategy<S>> breed(final List<FiniteStateStrategy<S>> population,
+                                               final double[] fitness,
+                                               final int[] ranking,
+                                               final SplittableRandom random) {
+        final List<FiniteStateStrategy<S>> nextPopulation = new ArrayList<>(populationSize);
+        for (int i = 0; i < eliteSize; i++) {
+            nextPopulation.add(population.get(ranking[i]));
+        }
+        while (nextPopulation.size() < populationSize) {
+            int winner = random.nextInt(populationSize);
+            for (int i = 1; i < tournamentSize; i++) {
+                final int challenger = random.nextInt(populationSize);
+                if (fitness[challenger] > fitness[winner]) {
+                    winner = challenger;
+                }
+            }
+            nextPopulation.add(population.get(winner).mutate(mutationRate, random));
+        }
+        return nextPopulation;
+    }
+
+    /**
+     * A strategy together with its evaluated fitness.
+     *
+     * @param strategy the strategy
+     * @param fitness  won minus lost rounds divided by rounds played, from {@code -1} to {@code 1}
+     * @param <S>      the type of hand shapes used in this game variant
+     */
+    public record Candidate<S extends HandShape>(FiniteStateStrategy<S> strategy, double fitness) {
+    }
+
+    /**
+     * Builder class to create an {@link EvolutionaryOptimizer} instance.
+     *
+     * @param <S> the type of hand shapes used in this game variant
+     */
+    public static class Builder<S extends HandShape> {
+        private GameRuleSet<S> ruleSet;
+        private final List<Supplier<GameStrategy<S>>> opponents = new ArrayList<>();
+        private int populationSize = 200;
+        private int numberOfStates = 4;
+        private int numberOfGenerations = 50;
+        private int gamesPerOpponent = 10;
+        private int roundsPerGame = 100;
+        private int eliteSize = 10;
+        private int tournamentSize = 3;
+        private double mutationRate = 0.05;
+        private long seed = System.nanoTime();
+
+        /**
+         * Sets the {@link GameRule}s for this game variant.
+         *
+         * @param rules the {@link GameRule}s for this game variant.
+         * @return This {@link Builder} instance.
+         * @see GameRuleSet#of(GameRule[])
+         */
+        @SafeVarargs
+        public final Builder<S> withRules(GameRule<S>... rules) {
+            return withRules(GameRuleSet.of(rules));
+        }
+
+        /**
+         * Sets a compiled {@link GameRuleSet} for this game variant.
+         *
+         * @param ruleSet the {@link GameRuleSet} for this game variant.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withRules(GameRuleSet<S> ruleSet) {
+            this.ruleSet = Objects.requireNonNull(ruleSet, "Rule set required");
+            return this;
+        }
+
+        /**
+         * Adds an opponent to the population the candidates are evaluated against.
+         *
+         * <p>The factory is called once per game, possibly from several threads at once.
+         * Strategies relying on {@link java.util.concurrent.ThreadLocalRandom} must look it
+         * up inside the strategy, not capture it in the factory.
+         *
+         * @param opponentFactory factory creating a fresh opponent strategy.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withOpponent(Supplier<GameStrategy<S>> opponentFactory) {
+            this.opponents.add(Objects.requireNonNull(opponentFactory, "Opponent factory required"));
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates per generation.
+         *
+         * @param populationSize number of candidates per generation.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withPopulationSize(int populationSize) {
+            this.populationSize = populationSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of states of each candidate.
+         *
+         * @param numberOfStates number of states of each candidate.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withNumberOfStates(int numberOfStates) {
+            this.numberOfStates = numberOfStates;
+            return this;
+        }
+
+        /**
+         * Sets the number of generations to evolve.
+         *
+         * @param numberOfGenerations number of generations to evolve.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withNumberOfGenerations(int numberOfGenerations) {
+            this.numberOfGenerations = numberOfGenerations;
+            return this;
+        }
+
+        /**
+         * Sets the number of games played against each opponent per fitness evaluation.
+         *
+         * @param gamesPerOpponent number of games played against each opponent.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withGamesPerOpponent(int gamesPerOpponent) {
+            this.gamesPerOpponent = gamesPerOpponent;
+            return this;
+        }
+
+        /**
+         * Sets the number of rounds per game.
+         *
+         * @param roundsPerGame number of rounds per game.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withRoundsPerGame(int roundsPerGame) {
+            this.roundsPerGame = roundsPerGame;
+            return this;
+        }
+
+        /**
+         * Sets the number of fittest candidates copied unchanged into the next generation.
+         *
+         * @param eliteSize number of candidates surviving unchanged.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withEliteSize(int eliteSize) {
+            this.eliteSize = eliteSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates competing in each tournament selection.
+         *
+         * @param tournamentSize number of candidates per tournament.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withTournamentSize(int tournamentSize) {
+            this.tournamentSize = tournamentSize;
+            return this;
+        }
+
+        /**
+         * Sets the probability of replacing a single table entry when mutating a candidate.
+         *
+         * @param mutationRate probability of replacing a single table entry.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withMutationRate(double mutationRate) {
+            this.mutationRate = mutationRate;
+            return this;
+        }
+
+        /**
+         * Sets the seed for selection and mutation.
+         *
+         * @param seed the seed for selection and mutation.
+         * @return This {@link Builder} instance.
+         */
+        public Builder<S> withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Builds the optimizer instance.
+         *
+         * @return the optimizer instance.
+         */
+        public EvolutionaryOptimizer<S> build() {
+            Objects.requireNonNull(ruleSet, "Game rules required");
+            if (opponents.isEmpty()) {
+                throw new IllegalArgumentException("At least one opponent required");
+            }
+            if (populationSize < 1 || numberOfStates < 1 || numberOfGenerations < 1
+                    || gamesPerOpponent < 1 || roundsPerGame < 1 || tournamentSize < 1) {
+                throw new IllegalArgumentException("Sizes and counts must be positive");
+            }
+            if (eliteSize < 0 || eliteSize > populationSize) {
+                throw new IllegalArgumentException("Elite size must be between 0 and the population size");
+            }
+
+            return new EvolutionaryOptimizer<>(this);
+        }
+    }
+}
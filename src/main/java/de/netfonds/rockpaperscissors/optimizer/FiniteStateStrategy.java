@@ -0,0 +1,217 @@
+package de.netfonds.rockpaperscissors.optimizer;
+
+import de.netfonds.rockpaperscissors.game.GameStrategy;
+import de.netfonds.rockpaperscissors.game.HandShape;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Strategy represented as a compact finite-state machine.
+ *
+ * <p>Every state emits one hand shape. After each round the machine moves to the state
+ * given by its transition table for the hand shape the opponent played. Both tables are
+ * primitive arrays indexed by {@link HandShape#ordinal()}, which keeps fitness evaluation
+ * free of boxing, hashing and allocation.
+ *
+ * <p>The class is immutable and thread-safe. Play state lives in {@link Player} instances
+ * created via {@link #newPlayer()}.
+ *
+ * @param <S> the type of hand shapes used in this strategy
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public final class FiniteStateStrategy<S extends HandShape> {
+
+    /**
+     * The state every game starts in.
+     */
+    static final int INITIAL_STATE = 0;
+
+    /**
+     * All hand shapes of the game variant, indexed by ordinal.
+     */
+    private final S[] handShapes;
+
+    /**
+     * Ordinal of the hand shape emitted per state.
+     */
+    private final byte[] moves;
+
+    /**
+     * Next state per {@code state * handShapes.length + opponentOrdinal}.
+     */
+    private final int[] transitions;
+
+    /**
+     * Private constructor - use {@link #random(HandShape[], int, SplittableRandom)} or
+     * {@link #mutate(double, SplittableRandom)} instead.
+     *
+     * @param handShapes  all hand shapes of the game variant, indexed by ordinal
+     * @param moves       ordinal of the hand shape emitted per state
+     * @param transitions next state per state and opponent hand shape
+     */
+    private FiniteStateStrategy(final S[] handShapes, final byte[] moves, final int[] transitions) {
+        this.handShapes = handShapes;
+        this.moves = moves;
+        this.transitions = transitions;
+    }
+
+    /**
+     * Creates a strategy with uniformly random moves and transitions.
+     *
+     * @param <E>            the type of hand shapes
+     * @param handShapes     all hand shapes of the game variant, indexed by ordinal
+     * @param numberOfStates the number of states of the machine
+     * @param random         source of randomness
+     * @return a new random strategy
+     * @throws IllegalArgumentException if {@code numberOfStates} is not positive
+     */
+    public static <E extends HandShape> FiniteStateStrategy<E> random(final E[] handShapes,
+                                                                      final int numberOfStates,
+                                                                      final SplittableRandom random) {
+        if (numberOfStates < 1) {
+            throw new IllegalArgumentException("At least one state required");
+        }
+        Objects.requireNonNull(random, "Random required");
+        final int numberOfHandShapes = handShapes.length;
+        final byte[] moves = new byte[numberOfStates];
+        final int[] transitions = new int[numberOfStates * numberOfHandShapes];
+        for (int state = 0; state < numberOfStates; state++) {
+            moves[state] = (byte) random.nextInt(numberOfHandShapes);
+        }
+        for (int i = 0; i < transitions.length; i++) {
+            transitions[i] = random.nextInt(numberOfStates);
+        }
+        return new FiniteStateStrategy<>(handShapes, moves, transitions);
+    }
+
+    /**
+     * Creates a mutated copy of this strategy.
+     *
+     * <p>Every move and every transition is independently replaced by a random value
+     * with the given probability.
+     *
+     * @param mutationRate probability of replacing a single table entry
+     * @param random       source of randomness
+     * @return a new mutated strategy
+     */
+    public FiniteStateStrategy<S> mutate(final double mutationRate, final SplittableRandom random) {
+        final int numberOfStates = moves.length;
+        final byte[] mutatedMoves = moves.clone();
+        final int[] mutatedTransitions = transitions.clone();
+        for (int state = 0; state < numberOfStates; state++) {
+            if (random.nextDouble() < mutationRate) {
+                mutatedMoves[state] = (byte) random.nextInt(handShapes.length);
+            }
+        }
+        for (int i = 0; i < mutatedTransitions.length; i++) {
+            if (random.nextDouble() < mutationRate) {
+                mutatedTransitions[i] = random.nextInt(numberOfStates);
+            }
+        }
+        return new FiniteStateStrategy<>(handShapes, mutatedMoves, mutatedTransitions);
+    }
+
+    /**
+     * Returns the number of states of this machine.
+     *
+     * @return the number of states
+     */
+    public int numberOfStates() {
+        return moves.length;
+    }
+
+    /**
+     * Returns the hand shape emitted in the given state.
+     *
+     * @param state the state
+     * @return the hand shape played in this state
+     */
+    public S getHandShape(final int state) {
+        return handShapes[moves[state]];
+    }
+
+    /**
+     * Returns the ordinal of the hand shape emitted in the given state.
+     *
+     * @param state the state
+     * @return the ordinal of the hand shape played in this state
+     */
+    int move(final int state) {
+        return moves[state];
+    }
+
+    /**
+     * Returns the state following the given one after the opponent played a hand shape.
+     *
+     * @param state           the current state
+     * @param opponentOrdinal ordinal of the hand shape the opponent played
+     * @return the next state
+     */
+    int nextState(final int state, final int opponentOrdinal) {
+        return transitions[state * handShapes.length + opponentOrdinal];
+    }
+
+    /**
+     * Creates a new stateful player for this strategy, starting in the initial state.
+     *
+     * @return a new player
+     */
+    public Player newPlayer() {
+        return new Player();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("FiniteStateStrategy[");
+        for (int state = 0; state < moves.length; state++) {
+            if (state > 0) {
+                builder.append(", ");
+            }
+            builder.append(state)
+                    .append(':')
+                    .append(getHandShape(state))
+                    .append("->")
+                    .append(Arrays.toString(Arrays.copyOfRange(transitions,
+                            state * handShapes.length,
+                            (state + 1) * handShapes.length)));
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Stateful {@link GameStrategy} view of a {@link FiniteStateStrategy}.
+     *
+     * <p>The player stays in its current state until the opponent's hand shape is
+     * passed to {@link #observe(HandShape)}. A {@link de.netfonds.rockpaperscissors.game.Game}
+     * does so after every round, so a player can be used directly as strategy of a game.
+     * Instances are not thread-safe.
+     */
+    public final class Player implements GameStrategy<S> {
+        private int state = INITIAL_STATE;
+
+        /**
+         * Private constructor - use {@link FiniteStateStrategy#newPlayer()} instead.
+         */
+        private Player() {
+        }
+
+        @Override
+        public S getNextHandShape() {
+            return getHandShape(state);
+        }
+
+        /**
+         * Advances the machine after the opponent played the given hand shape.
+         *
+         * @param opponentHandShape the hand shape the opponent played in the last round
+         */
+        @Override
+        public void observe(final S opponentHandShape) {
+            state = nextState(state, opponentHandShape.ordinal());
+        }
+    }
+}
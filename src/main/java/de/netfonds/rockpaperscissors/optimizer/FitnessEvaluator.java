@@ -0,0 +1,131 @@
+package de.netfonds.rockpaperscissors.optimizer;
+
+import de.netfonds.rockpaperscissors.game.GameRuleSet;
+import de.netfonds.rockpaperscissors.game.GameStrategy;
+import de.netfonds.rockpaperscissors.game.HandShape;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Evaluates the fitness of {@link FiniteStateStrategy} candidates against an opponent population.
+ *
+ * <p>The rule set is converted once into a dense table of scores, so a round costs two calls of
+ * the opponent's {@link GameStrategy}, one to play and one to observe the candidate's move, plus
+ * two array lookups. A generation is evaluated as a data-parallel batch over all cores.
+ *
+ * <p>A candidate scores exactly as its {@link FiniteStateStrategy#newPlayer()} would in a
+ * {@link de.netfonds.rockpaperscissors.game.Game} against the same opponents, including
+ * opponents reacting via {@link GameStrategy#observe(HandShape)}. The evaluator merely skips
+ * the per-round listener and logging overhead of the engine.
+ *
+ * <p>The fitness of a candidate is the number of won rounds minus the number of lost rounds,
+ * divided by the number of rounds played. It ranges from {@code -1} to {@code 1}.
+ *
+ * @param <S> the type of hand shapes used in this game variant
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+class FitnessEvaluator<S extends HandShape> {
+
+    /**
+     * Number of hand shapes of the game variant.
+     */
+    private final int numberOfHandShapes;
+
+    /**
+     * Outcome per {@code candidateOrdinal * numberOfHandShapes + opponentOrdinal}:
+     * {@code 1} if the candidate wins, {@code -1} if it loses and {@code 0} for a draw.
+     */
+    private final byte[] outcomes;
+
+    /**
+     * Factories for the opponents. A fresh opponent is created per game, so stateful
+     * strategies never leak state between games or threads.
+     */
+    private final List<Supplier<GameStrategy<S>>> opponents;
+
+    private final int gamesPerOpponent;
+
+    private final int roundsPerGame;
+
+    /**
+     * Creates a new {@link FitnessEvaluator} instance.
+     *
+     * @param ruleSet          the validated rules of the game variant
+     * @param opponents        factories for the opponents
+     * @param gamesPerOpponent number of games played against each opponent
+     * @param roundsPerGame    number of rounds per game
+     */
+    FitnessEvaluator(final GameRuleSet<S> ruleSet,
+                     final List<Supplier<GameStrategy<S>>> opponents,
+                     final int gamesPerOpponent,
+                     final int roundsPerGame) {
+        this.numberOfHandShapes = ruleSet.numberOfHandShapes();
+        this.outcomes = compileOutcomes(ruleSet);
+        this.opponents = List.copyOf(opponents);
+        this.gamesPerOpponent = gamesPerOpponent;
+        this.roundsPerGame = roundsPerGame;
+    }
+
+    /**
+     * Converts the rule set into a table of scores.
+     *
+     * @param ruleSet the validated rules of the game variant
+     * @return the outcome table
+     */
+    private static <S extends HandShape> byte[] compileOutcomes(final GameRuleSet<S> ruleSet) {
+        final S[] handShapes = ruleSet.getHandShapes();
+        final byte[] outcomes = new byte[handShapes.length * handShapes.length];
+        for (final S handShape : handShapes) {
+            for (final S otherHandShape : handShapes) {
+                outcomes[handShape.ordinal() * handShapes.length + otherHandShape.ordinal()] =
+                        switch (ruleSet.getRuleResult(handShape, otherHandShape)) {
+                            case WIN -> 1;
+                            case LOSE -> -1;
+                            case DRAW -> 0;
+                        };
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Evaluates all candidates in parallel.
+     *
+     * @param candidates the candidates to evaluate
+     * @return the fitness per candidate, in the order of {@code candidates}
+     */
+    double[] evaluate(final List<FiniteStateStrategy<S>> candidates) {
+        final double[] fitness = new double[candidates.size()];
+        IntStream.range(0, fitness.length)
+                .parallel()
+                .forEach(i -> fitness[i] = evaluate(candidates.get(i)));
+        return fitness;
+    }
+
+    /**
+     * Evaluates a single candidate.
+     *
+     * @param candidate the candidate to evaluate
+     * @return the fitness of the candidate
+     */
+    double evaluate(final FiniteStateStrategy<S> candidate) {
+        long score = 0;
+        for (final Supplier<GameStrategy<S>> opponentFactory : opponents) {
+            for (int game = 0; game < gamesPerOpponent; game++) {
+                final GameStrategy<S> opponent = opponentFactory.get();
+                int state = FiniteStateStrategy.INITIAL_STATE;
+                for (int round = 0; round < roundsPerGame; round++) {
+                    final int opponentOrdinal = opponent.getNextHandShape().ordinal();
+                    score += outcomes[candidate.move(state) * numberOfHandShapes + opponentOrdinal];
+                    opponent.observe(candidate.getHandShape(state));
+                    state = candidate.nextState(state, opponentOrdinal);
+                }
+            }
+        }
+        return (double) score / ((long) opponents.size() * gamesPerOpponent * roundsPerGame);
+    }
+}
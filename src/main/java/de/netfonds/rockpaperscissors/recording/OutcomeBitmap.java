@@ -0,0 +1,366 @@
+package de.netfonds.rockpaperscissors.recording;
+
+import de.netfonds.rockpaperscissors.game.GameRoundListener;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Off-heap recording of every round outcome as a 2-bit packed code.
+ *
+ * <p>Each {@code long} word holds the outcomes of 32 consecutive rounds, the earliest round in
+ * the lowest bits. Words are stored in fixed size chunks of direct memory. Once the configured
+ * memory budget is used up, further chunks are memory-mapped from a temporary spill file, so
+ * the heap footprint stays constant regardless of the number of rounds recorded.
+ * By default at most {@link #DEFAULT_MAX_MEMORY_BYTES}, and never more than a quarter of the
+ * maximum heap size, is allocated before spilling to {@code java.io.tmpdir}.
+ *
+ * <p>Queries work on whole words: matching slots are turned into a bit mask with a few XOR/OR
+ * operations and evaluated with {@link Long#bitCount(long)} and leading/trailing zero counts.
+ *
+ * <p>The class is not thread-safe. It is meant to be registered as {@link GameRoundListener}
+ * of a single {@link de.netfonds.rockpaperscissors.game.Game} and queried after, or between,
+ * calls of {@code playGame}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class OutcomeBitmap implements GameRoundListener, AutoCloseable {
+
+    private static final int BITS_PER_ROUND = 2;
+    private static final int ROUNDS_PER_WORD = Long.SIZE / BITS_PER_ROUND;
+    private static final int ROUNDS_PER_WORD_SHIFT = Integer.numberOfTrailingZeros(ROUNDS_PER_WORD);
+
+    /**
+     * Number of words per chunk as power of two. 2^20 words are 8 MiB or 2^25 rounds.
+     */
+    private static final int WORDS_PER_CHUNK_SHIFT = 20;
+    private static final int WORDS_PER_CHUNK = 1 << WORDS_PER_CHUNK_SHIFT;
+    private static final int CHUNK_BYTES = WORDS_PER_CHUNK * Long.BYTES;
+
+    /**
+     * Low bit of every 2-bit slot.
+     */
+    private static final long LOW_BITS = 0x5555555555555555L;
+
+    private static final GameRoundResult[] RESULTS = GameRoundResult.values();
+
+    /**
+     * Default amount of direct memory to allocate before spilling, 256 MiB or 2^30 rounds.
+     */
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 1L << 28;
+
+    private final long maxMemoryBytes;
+    private final Path spillDirectory;
+
+    /**
+     * Completed words, {@link #WORDS_PER_CHUNK} per chunk.
+     */
+    private final List<LongBuffer> chunks = new ArrayList<>();
+
+    /**
+     * The word currently being filled. Written to its chunk once all 32 slots are used.
+     */
+    private long pendingWord;
+
+    private long numberOfRounds;
+
+    private long allocatedMemoryBytes;
+
+    private FileChannel spillChannel;
+
+    private long spilledBytes;
+
+    /**
+     * Creates a new {@link OutcomeBitmap} instance with the default memory budget,
+     * spilling to {@code java.io.tmpdir}.
+     *
+     * <p>The budget is capped at a quarter of the maximum heap size, as direct memory is
+     * limited to the heap size unless {@code -XX:MaxDirectMemorySize} is set.
+     */
+    public OutcomeBitmap() {
+        this(Math.min(DEFAULT_MAX_MEMORY_BYTES, Runtime.getRuntime().maxMemory() / 4),
+                Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Creates a new {@link OutcomeBitmap} instance spilling to a memory-mapped file once
+     * the given amount of direct memory is used.
+     *
+     * @param maxMemoryBytes maximum amount of direct memory to allocate
+     * @param spillDirectory directory to create the spill file in
+     */
+    public OutcomeBitmap(long maxMemoryBytes, Path spillDirectory) {
+        if (maxMemoryBytes < 0) {
+            throw new IllegalArgumentException("Memory limit must not be negative");
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public void onRoundPlayed(GameRoundResult result) {
+        final int slot = (int) (numberOfRounds & (ROUNDS_PER_WORD - 1));
+        pendingWord |= (long) result.ordinal() << (slot * BITS_PER_ROUND);
+        numberOfRounds++;
+        if (slot == ROUNDS_PER_WORD - 1) {
+            flushPendingWord();
+        }
+    }
+
+    /**
+     * Returns the number of recorded rounds.
+     *
+     * @return the number of recorded rounds
+     */
+    public long numberOfRounds() {
+        return numberOfRounds;
+    }
+
+    /**
+     * Returns the outcome of a single round.
+     *
+     * @param round zero based index of the round
+     * @return the outcome of the round
+     * @throws IndexOutOfBoundsException if the round was not recorded
+     */
+    public GameRoundResult get(long round) {
+        Objects.checkIndex(round, numberOfRounds);
+        final int slot = (int) (round & (ROUNDS_PER_WORD - 1));
+        return RESULTS[(int) (word(round >>> ROUNDS_PER_WORD_SHIFT) >>> (slot * BITS_PER_ROUND)) & 0b11];
+    }
+
+    /**
+     * Counts the rounds with the given outcome in {@code [fromRound, toRound)}.
+     *
+     * @param result    the outcome to count
+     * @param fromRound first round, inclusive
+     * @param toRound   last round, exclusive
+     * @return the number of rounds with the given outcome
+     */
+    public long count(GameRoundResult result, long fromRound, long toRound) {
+        Objects.checkFromToIndex(fromRound, toRound, numberOfRounds);
+        long count = 0;
+        for (long wordIndex = firstWord(fromRound); wordIndex < endWord(toRound); wordIndex++) {
+            count += Long.bitCount(matches(wordIndex, result, fromRound, toRound));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the rate of rounds with the given outcome in {@code [fromRound, toRound)}.
+     *
+     * @param result    the outcome to count
+     * @param fromRound first round, inclusive
+     * @param toRound   last round, exclusive
+     * @return the rate between {@code 0} and {@code 1}, {@code 0} for an empty range
+     */
+    public double rate(GameRoundResult result, long fromRound, long toRound) {
+        final long count = count(result, fromRound, toRound);
+        return count > 0 ? (double) count / (toRound - fromRound) : 0;
+    }
+
+    /**
+     * Returns the rate of rounds with the given outcome within the most recent rounds.
+     *
+     * @param result       the outcome to count
+     * @param windowRounds number of most recent rounds to consider
+     * @return the rate between {@code 0} and {@code 1}, {@code 0} if nothing was recorded
+     */
+    public double recentRate(GameRoundResult result, long windowRounds) {
+        return rate(result, Math.max(0, numberOfRounds - windowRounds), numberOfRounds);
+    }
+
+    /**
+     * Returns the longest run of consecutive rounds with the given outcome.
+     *
+     * @param result the outcome
+     * @return the length of the longest run
+     */
+    public long longestStreak(GameRoundResult result) {
+        return longestStreak(result, 0, numberOfRounds);
+    }
+
+    /**
+     * Returns the longest run of consecutive rounds with the given outcome in {@code [fromRound, toRound)}.
+     *
+     * @param result    the outcome
+     * @param fromRound first round, inclusive
+     * @param toRound   last round, exclusive
+     * @return the length of the longest run
+     */
+    public long longestStreak(GameRoundResult result, long fromRound, long toRound) {
+        Objects.checkFromToIndex(fromRound, toRound, numberOfRounds);
+        long longest = 0;
+        long current = 0;
+        for (long wordIndex = firstWord(fromRound); wordIndex < endWord(toRound); wordIndex++) {
+            final long matches = matches(wordIndex, result, fromRound, toRound);
+            final long slots = matches | (matches << 1);
+            if (slots == -1L) {
+                current += ROUNDS_PER_WORD;
+                continue;
+            }
+            current += Long.numberOfTrailingZeros(~slots) / BITS_PER_ROUND;
+            longest = Math.max(longest, Math.max(current, longestRunWithinWord(slots)));
+            current = Long.numberOfLeadingZeros(~slots) / BITS_PER_ROUND;
+        }
+        return Math.max(longest, current);
+    }
+
+    /**
+     * Returns the number of consecutive rounds with the given outcome at the end of the recording.
+     *
+     * @param result the outcome
+     * @return the length of the current run, {@code 0} if the last round had another outcome
+     */
+    public long currentStreak(GameRoundResult result) {
+        long streak = 0;
+        for (long wordIndex = endWord(numberOfRounds) - 1; wordIndex >= 0; wordIndex--) {
+            final int validRounds = (int) Math.min(ROUNDS_PER_WORD, numberOfRounds - (wordIndex << ROUNDS_PER_WORD_SHIFT));
+            final long matches = matches(wordIndex, result, 0, numberOfRounds);
+            final long slots = (matches | (matches << 1)) << (Long.SIZE - validRounds * BITS_PER_ROUND);
+            final int run = Long.numberOfLeadingZeros(~slots) / BITS_PER_ROUND;
+            streak += run;
+            if (run < validRounds) {
+                break;
+            }
+        }
+        return streak;
+    }
+
+    /**
+     * Counts the runs of consecutive rounds with the given outcome in {@code [fromRound, toRound)}.
+     *
+     * <p>Together with {@link #count(GameRoundResult, long, long)} this gives the mean run length.
+     *
+     * @param result    the outcome
+     * @param fromRound first round, inclusive
+     * @param toRound   last round, exclusive
+     * @return the number of runs
+     */
+    public long numberOfRuns(GameRoundResult result, long fromRound, long toRound) {
+        Objects.checkFromToIndex(fromRound, toRound, numberOfRounds);
+        long runs = 0;
+        long previousMatch = 0;
+        for (long wordIndex = firstWord(fromRound); wordIndex < endWord(toRound); wordIndex++) {
+            final long matches = matches(wordIndex, result, fromRound, toRound);
+            final long starts = matches & ~((matches << BITS_PER_ROUND) | previousMatch);
+            runs += Long.bitCount(starts);
+            previousMatch = matches >>> (Long.SIZE - BITS_PER_ROUND);
+        }
+        return runs;
+    }
+
+    /**
+     * Discards all recorded rounds and closes and deletes the spill file.
+     *
+     * <p>The chunks are only dereferenced. Their direct and mapped memory is released once
+     * the buffers are garbage collected, as Java offers no way to free them explicitly.
+     */
+    @Override
+    public void close() {
+        chunks.clear();
+        pendingWord = 0;
+        numberOfRounds = 0;
+        allocatedMemoryBytes = 0;
+        spilledBytes = 0;
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                spillChannel = null;
+            }
+        }
+    }
+
+    /**
+     * Returns a mask with the low bit of every slot set whose outcome equals the given one
+     * and whose round lies within {@code [fromRound, toRound)}.
+     */
+    private long matches(long wordIndex, GameRoundResult result, long fromRound, long toRound) {
+        final long difference = word(wordIndex) ^ (result.ordinal() * LOW_BITS);
+        final long firstRound = wordIndex << ROUNDS_PER_WORD_SHIFT;
+        final int fromSlot = (int) Math.max(0, fromRound - firstRound);
+        final int toSlot = (int) Math.min(ROUNDS_PER_WORD, toRound - firstRound);
+        final long rangeMask = (toSlot == ROUNDS_PER_WORD ? -1L : (1L << (toSlot * BITS_PER_ROUND)) - 1)
+                & (-1L << (fromSlot * BITS_PER_ROUND));
+        return ~(difference | (difference >>> 1)) & LOW_BITS & rangeMask;
+    }
+
+    /**
+     * Returns the longest run of set slots in a word where each matching slot has both bits set.
+     * Every iteration shortens each run by one slot.
+     */
+    private static int longestRunWithinWord(long slots) {
+        int length = 0;
+        while (slots != 0) {
+            slots &= slots >>> BITS_PER_ROUND;
+            length++;
+        }
+        return length;
+    }
+
+    private static long firstWord(long fromRound) {
+        return fromRound >>> ROUNDS_PER_WORD_SHIFT;
+    }
+
+    private static long endWord(long toRound) {
+        return (toRound + ROUNDS_PER_WORD - 1) >>> ROUNDS_PER_WORD_SHIFT;
+    }
+
+    private long word(long wordIndex) {
+        if (wordIndex == numberOfRounds >>> ROUNDS_PER_WORD_SHIFT) {
+            return pendingWord;
+        }
+        return chunks.get((int) (wordIndex >>> WORDS_PER_CHUNK_SHIFT))
+                .get((int) (wordIndex & (WORDS_PER_CHUNK - 1)));
+    }
+
+    private void flushPendingWord() {
+        final long wordIndex = (numberOfRounds - 1) >>> ROUNDS_PER_WORD_SHIFT;
+        final int chunkIndex = (int) (wordIndex >>> WORDS_PER_CHUNK_SHIFT);
+        if (chunkIndex == chunks.size()) {
+            chunks.add(allocateChunk());
+        }
+        chunks.get(chunkIndex).put((int) (wordIndex & (WORDS_PER_CHUNK - 1)), pendingWord);
+        pendingWord = 0;
+    }
+
+    private LongBuffer allocateChunk() {
+        if (maxMemoryBytes - allocatedMemoryBytes >= CHUNK_BYTES) {
+            allocatedMemoryBytes += CHUNK_BYTES;
+            return ByteBuffer.allocateDirect(CHUNK_BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+        }
+        try {
+            if (spillChannel == null) {
+                Objects.requireNonNull(spillDirectory, "Spill directory required once the memory limit is reached");
+                spillChannel = FileChannel.open(
+                        Files.createTempFile(spillDirectory, "outcomes", ".bin"),
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            final ByteBuffer mapped = spillChannel.map(FileChannel.MapMode.READ_WRITE, spilledBytes, CHUNK_BYTES);
+            spilledBytes += CHUNK_BYTES;
+            return mapped.order(ByteOrder.nativeOrder()).asLongBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
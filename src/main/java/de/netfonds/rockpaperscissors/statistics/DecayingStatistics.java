@@ -0,0 +1,81 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameRoundListener;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+
+/**
+ * Exponentially decayed outcome rates of a running game.
+ *
+ * <p>Every round moves each rate towards {@code 1} if it matches the outcome and towards
+ * {@code 0} otherwise. The weight of a round halves every {@code halfLifeRounds} rounds,
+ * so recent rounds dominate without any history being kept. An update costs O(1) and
+ * does not allocate.
+ *
+ * <p>Single writer, lock-free readers, see the {@linkplain de.netfonds.rockpaperscissors.statistics
+ * package documentation}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class DecayingStatistics implements GameRoundListener {
+
+    private final SequenceLock lock = new SequenceLock();
+
+    /**
+     * Weight of the most recent round.
+     */
+    private final double alpha;
+
+    private double playerAWinRate;
+    private double playerBWinRate;
+    private double drawRate;
+
+    /**
+     * Creates a new {@link DecayingStatistics} instance.
+     *
+     * @param halfLifeRounds the number of rounds after which the weight of a round is halved
+     */
+    public DecayingStatistics(double halfLifeRounds) {
+        if (!(halfLifeRounds > 0)) {
+            throw new IllegalArgumentException("Half-life must be positive");
+        }
+        this.alpha = -Math.expm1(-Math.log(2) / halfLifeRounds);
+    }
+
+    @Override
+    public void onRoundPlayed(GameRoundResult result) {
+        lock.beginWrite();
+        playerAWinRate += alpha * ((result == GameRoundResult.PLAYER_A_WINS ? 1 : 0) - playerAWinRate);
+        playerBWinRate += alpha * ((result == GameRoundResult.PLAYER_B_WINS ? 1 : 0) - playerBWinRate);
+        drawRate += alpha * ((result == GameRoundResult.DRAW ? 1 : 0) - drawRate);
+        lock.endWrite();
+    }
+
+    /**
+     * Returns the current decayed rates.
+     *
+     * @return the current decayed rates
+     */
+    public Rates snapshot() {
+        while (true) {
+            final long sequence = lock.beginRead();
+            final double playerA = playerAWinRate;
+            final double playerB = playerBWinRate;
+            final double draw = drawRate;
+            if (lock.validate(sequence)) {
+                return new Rates(playerA, playerB, draw);
+            }
+        }
+    }
+
+    /**
+     * Decayed outcome rates. All rates start at {@code 0} and range up to {@code 1}.
+     *
+     * @param playerAWinRate decayed rate of rounds won by Player A
+     * @param playerBWinRate decayed rate of rounds won by Player B
+     * @param drawRate       decayed rate of rounds that ended in a draw
+     */
+    public record Rates(double playerAWinRate, double playerBWinRate, double drawRate) {
+    }
+}
@@ -0,0 +1,62 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-writer sequence lock guarding plain fields for lock-free readers.
+ *
+ * <p>The writer makes the sequence odd before and even after each update. Readers copy the
+ * guarded fields between {@link #beginRead()} and {@link #validate(long)} and retry if the
+ * sequence changed in between. Neither side blocks or allocates.
+ *
+ * <p>Only one thread may write. Any number of threads may read. This implements the
+ * threading contract of the {@linkplain de.netfonds.rockpaperscissors.statistics package}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+final class SequenceLock {
+
+    private volatile long sequence;
+
+    /**
+     * Marks the start of an update. Must be followed by {@link #endWrite()}.
+     */
+    void beginWrite() {
+        sequence = sequence + 1;
+        VarHandle.storeStoreFence();
+    }
+
+    /**
+     * Marks the end of an update and publishes it to readers.
+     */
+    void endWrite() {
+        sequence = sequence + 1;
+    }
+
+    /**
+     * Waits until no update is in progress and returns the current sequence.
+     *
+     * @return the sequence to pass to {@link #validate(long)}
+     */
+    long beginRead() {
+        long current = sequence;
+        while ((current & 1) != 0) {
+            Thread.onSpinWait();
+            current = sequence;
+        }
+        return current;
+    }
+
+    /**
+     * Checks whether the fields read since {@link #beginRead()} form a consistent snapshot.
+     *
+     * @param readSequence the sequence returned by {@link #beginRead()}
+     * @return {@code true} if no update happened in between
+     */
+    boolean validate(long readSequence) {
+        VarHandle.loadLoadFence();
+        return sequence == readSequence;
+    }
+}
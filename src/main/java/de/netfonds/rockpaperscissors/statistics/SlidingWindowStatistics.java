@@ -0,0 +1,88 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundListener;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+
+/**
+ * Outcome counts over the most recent rounds of a running game.
+ *
+ * <p>Keeps the outcomes of the last {@code windowSize} rounds in a ring buffer of bytes and
+ * adjusts the counts as rounds enter and leave the window. An update costs O(1) and
+ * does not allocate.
+ *
+ * <p>Single writer, lock-free readers, see the {@linkplain de.netfonds.rockpaperscissors.statistics
+ * package documentation}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class SlidingWindowStatistics implements GameRoundListener {
+
+    private static final GameRoundResult[] RESULTS = GameRoundResult.values();
+
+    private final SequenceLock lock = new SequenceLock();
+
+    /**
+     * Ordinals of the outcomes within the window, overwritten in round order.
+     */
+    private final byte[] window;
+
+    private int position;
+    private long numberOfRounds;
+    private int numberOfPlayerAWins;
+    private int numberOfPlayerBWins;
+    private int numberOfDraws;
+
+    /**
+     * Creates a new {@link SlidingWindowStatistics} instance.
+     *
+     * @param windowSize the number of most recent rounds to count
+     */
+    public SlidingWindowStatistics(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.window = new byte[windowSize];
+    }
+
+    @Override
+    public void onRoundPlayed(GameRoundResult result) {
+        lock.beginWrite();
+        if (numberOfRounds >= window.length) {
+            count(RESULTS[window[position]], -1);
+        }
+        window[position] = (byte) result.ordinal();
+        count(result, 1);
+        position = position + 1 == window.length ? 0 : position + 1;
+        numberOfRounds++;
+        lock.endWrite();
+    }
+
+    /**
+     * Returns the outcome counts of the most recent rounds.
+     *
+     * @return the counts of at most {@code windowSize} rounds
+     */
+    public GameResult snapshot() {
+        while (true) {
+            final long sequence = lock.beginRead();
+            final int playerAWins = numberOfPlayerAWins;
+            final int playerBWins = numberOfPlayerBWins;
+            final int draws = numberOfDraws;
+            if (lock.validate(sequence)) {
+                return new GameResult(playerAWins, playerBWins, draws);
+            }
+        }
+    }
+
+    private void count(GameRoundResult result, int delta) {
+        switch (result) {
+            case PLAYER_A_WINS -> numberOfPlayerAWins += delta;
+            case PLAYER_B_WINS -> numberOfPlayerBWins += delta;
+            case DRAW -> numberOfDraws += delta;
+            default -> throw new IllegalArgumentException("Unsupported GameRoundResult: " + result.name());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundListener;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Outcome counts of a running game per fixed time interval, e.g. per minute.
+ *
+ * <p>Keeps the counts of the most recent {@code numberOfBuckets} intervals in a ring of
+ * primitive counters. Buckets are recycled when the clock moves on, so an update costs
+ * amortized O(1) and does not allocate.
+ *
+ * <p>Single writer, lock-free readers, see the {@linkplain de.netfonds.rockpaperscissors.statistics
+ * package documentation}.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+public class TimeBucketedStatistics implements GameRoundListener {
+
+    private static final int NUMBER_OF_RESULTS = GameRoundResult.values().length;
+
+    private final SequenceLock lock = new SequenceLock();
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final long bucketNanos;
+    private final int numberOfBuckets;
+
+    /**
+     * Counts per {@code (bucket % numberOfBuckets) * NUMBER_OF_RESULTS + resultOrdinal}.
+     */
+    private final int[] counts;
+
+    /**
+     * Number of the bucket the last round was counted in, relative to {@link #startNanos}.
+     */
+    private long currentBucket;
+
+    /**
+     * Creates a new {@link TimeBucketedStatistics} instance measuring time with {@link System#nanoTime()}.
+     *
+     * @param bucketDuration  the time interval covered by a bucket
+     * @param numberOfBuckets the number of most recent intervals to keep
+     */
+    public TimeBucketedStatistics(Duration bucketDuration, int numberOfBuckets) {
+        this(bucketDuration, numberOfBuckets, System::nanoTime);
+    }
+
+    /**
+     * Creates a new {@link TimeBucketedStatistics} instance.
+     *
+     * @param bucketDuration  the time interval covered by a bucket
+     * @param numberOfBuckets the number of most recent intervals to keep
+     * @param nanoClock       monotonic clock in nanoseconds
+     */
+    public TimeBucketedStatistics(Duration bucketDuration, int numberOfBuckets, LongSupplier nanoClock) {
+        if (bucketDuration.isNegative() || bucketDuration.isZero()) {
+            throw new IllegalArgumentException("Bucket duration must be positive");
+        }
+        if (numberOfBuckets < 1) {
+            throw new IllegalArgumentException("At least one bucket required");
+        }
+        this.nanoClock = Objects.requireNonNull(nanoClock, "Clock required");
+        this.startNanos = nanoClock.getAsLong();
+        this.bucketNanos = bucketDuration.toNanos();
+        this.numberOfBuckets = numberOfBuckets;
+        this.counts = new int[numberOfBuckets * NUMBER_OF_RESULTS];
+    }
+
+    @Override
+    public void onRoundPlayed(GameRoundResult result) {
+        final long bucket = bucketAt(nanoClock.getAsLong());
+        lock.beginWrite();
+        if (bucket != currentBucket) {
+            final long bucketsToClear = Math.min(bucket - currentBucket, numberOfBuckets);
+            for (long cleared = 1; cleared <= bucketsToClear; cleared++) {
+                final int offset = (int) ((currentBucket + cleared) % numberOfBuckets) * NUMBER_OF_RESULTS;
+                for (int i = 0; i < NUMBER_OF_RESULTS; i++) {
+                    counts[offset + i] = 0;
+                }
+            }
+            currentBucket = bucket;
+        }
+        counts[(int) (bucket % numberOfBuckets) * NUMBER_OF_RESULTS + result.ordinal()]++;
+        lock.endWrite();
+    }
+
+    /**
+     * Returns the outcome counts of the most recent intervals.
+     *
+     * <p>Intervals without any round played, including those passed since the last round,
+     * are reported as empty results.
+     *
+     * @return one result per interval, oldest first, the current interval last
+     */
+    public List<GameResult> snapshot() {
+        final int[] copy = new int[counts.length];
+        long lastBucket;
+        while (true) {
+            final long sequence = lock.beginRead();
+            System.arraycopy(counts, 0, copy, 0, counts.length);
+            lastBucket = currentBucket;
+            if (lock.validate(sequence)) {
+                break;
+            }
+        }
+
+        final long nowBucket = Math.max(lastBucket, bucketAt(nanoClock.getAsLong()));
+        final List<GameResult> results = new ArrayList<>(numberOfBuckets);
+        for (long bucket = nowBucket - numberOfBuckets + 1; bucket <= nowBucket; bucket++) {
+            if (bucket < 0 || bucket > lastBucket || bucket <= lastBucket - numberOfBuckets) {
+                results.add(new GameResult(0, 0, 0));
+            } else {
+                final int offset = (int) (bucket % numberOfBuckets) * NUMBER_OF_RESULTS;
+                results.add(new GameResult(
+                        copy[offset + GameRoundResult.PLAYER_A_WINS.ordinal()],
+                        copy[offset + GameRoundResult.PLAYER_B_WINS.ordinal()],
+                        copy[offset + GameRoundResult.DRAW.ordinal()]));
+            }
+        }
+        return results;
+    }
+
+    private long bucketAt(long nanos) {
+        return (nanos - startNanos) / bucketNanos;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Running statistics of a game, registered as {@link de.netfonds.rockpaperscissors.game.GameRoundListener}.
+ *
+ * <h2>Threading</h2>
+ * <p>Updates must come from a single thread, typically the game loop a statistics instance
+ * is registered with. {@code snapshot()} may be called from any thread at any time. It never
+ * blocks the writer and always returns a consistent state: readers copy the fields guarded by
+ * a sequence lock and retry if an update interfered.
+ *
+ * @author Daniel Kleinehagenbrock
+ * @version 1.0
+ * @since 1.0
+ */
+package de.netfonds.rockpaperscissors.statistics;
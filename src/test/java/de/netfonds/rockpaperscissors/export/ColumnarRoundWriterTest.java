@@ -0,0 +1,142 @@
+package de.netfonds.rockpaperscissors.export;
+
+import de.netfonds.rockpaperscissors.game.ClassicHandShape;
+import de.netfonds.rockpaperscissors.game.Game;
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import de.netfonds.rockpaperscissors.game.GameRule;
+import de.netfonds.rockpaperscissors.game.GameStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnarRoundWriterTest {
+
+    @Test
+    public void testWrittenRoundsCanBeReadBack() throws Exception {
+        // given
+        final Path file = Files.createTempFile("rounds", ".rpsc");
+        final List<GameResult> expectedResults = new ArrayList<>();
+        try (final var writer = new ColumnarRoundWriter(file, ClassicHandShape.values(), Map.of("seed", "42"), 100)) {
+            final var game = new Game.Builder<ClassicHandShape>()
+                    .withPlayerA(GameStrategy.constant(ClassicHandShape.PAPER))
+                    .withPlayerB(GameStrategy.random(ClassicHandShape.values(), 42))
+                    .withRules(
+                            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                    )
+                    .withRoundRecorder(writer)
+                    .build();
+
+            // when
+            expectedResults.add(game.playGame(1_050));
+            expectedResults.add(game.playGame(30));
+        }
+
+        // then
+        final List<GameResult> results = new ArrayList<>();
+        final List<Long> endRounds = new ArrayList<>();
+        final long[] counts = new long[GameRoundResult.values().length];
+        final long[] nextRound = new long[1];
+        try (final var reader = new ColumnarRoundReader(file)) {
+            final long numberOfRounds = reader.read(new ColumnarRoundReader.Visitor() {
+                @Override
+                public void onRounds(long firstRound, ByteBuffer handShapesPlayerA, ByteBuffer handShapesPlayerB, ByteBuffer roundResults) {
+                    assertEquals(nextRound[0], firstRound);
+                    while (roundResults.hasRemaining()) {
+                        assertEquals(ClassicHandShape.PAPER.ordinal(), handShapesPlayerA.get());
+                        final ClassicHandShape handShapePlayerB = ClassicHandShape.values()[handShapesPlayerB.get()];
+                        final GameRoundResult result = GameRoundResult.values()[roundResults.get()];
+                        assertEquals(switch (handShapePlayerB) {
+                            case ROCK -> GameRoundResult.PLAYER_A_WINS;
+                            case PAPER -> GameRoundResult.DRAW;
+                            case SCISSORS -> GameRoundResult.PLAYER_B_WINS;
+                        }, result);
+                        counts[result.ordinal()]++;
+                        nextRound[0]++;
+                    }
+                }
+
+                @Override
+                public void onGameResult(long endRound, GameResult result) {
+                    endRounds.add(endRound);
+                    results.add(result);
+                }
+            });
+
+            assertAll(
+                    () -> assertEquals("42", reader.metadata().get("seed")),
+                    () -> assertEquals("ROCK,PAPER,SCISSORS", reader.metadata().get("handShapes")),
+                    () -> assertEquals(1_080, numberOfRounds),
+                    () -> assertEquals(1_080, nextRound[0]),
+                    () -> assertEquals(expectedResults, results),
+                    () -> assertEquals(List.of(1_050L, 1_080L), endRounds),
+                    () -> assertEquals(expectedResults.get(0).numberOfPlayerAWins() + expectedResults.get(1).numberOfPlayerAWins(),
+                            counts[GameRoundResult.PLAYER_A_WINS.ordinal()])
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testShortGamesAreWrittenWithTheirRounds() throws Exception {
+        // given
+        final Path file = Files.createTempFile("rounds", ".rpsc");
+        try (final var writer = new ColumnarRoundWriter(file, ClassicHandShape.values(), Map.of(), 100_000)) {
+            final var game = new Game.Builder<ClassicHandShape>()
+                    .withPlayerA(GameStrategy.constant(ClassicHandShape.PAPER))
+                    .withPlayerB(GameStrategy.constant(ClassicHandShape.ROCK))
+                    .withRules(
+                            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                    )
+                    .withRoundRecorder(writer)
+                    .build();
+
+            // when
+            for (int i = 0; i < 1_000; i++) {
+                game.playGame(10);
+            }
+        }
+
+        // then
+        final int[] numberOfRoundBlocks = new int[1];
+        final List<Long> endRounds = new ArrayList<>();
+        try (final var reader = new ColumnarRoundReader(file)) {
+            final long numberOfRounds = reader.read(new ColumnarRoundReader.Visitor() {
+                @Override
+                public void onRounds(long firstRound, ByteBuffer handShapesPlayerA, ByteBuffer handShapesPlayerB, ByteBuffer roundResults) {
+                    numberOfRoundBlocks[0]++;
+                }
+
+                @Override
+                public void onGameResult(long endRound, GameResult result) {
+                    assertEquals(new GameResult(10, 0, 0), result);
+                    endRounds.add(endRound);
+                }
+            });
+
+            assertAll(
+                    () -> assertEquals(10_000, numberOfRounds),
+                    () -> assertEquals(1, numberOfRoundBlocks[0]),
+                    () -> assertEquals(1_000, endRounds.size()),
+                    () -> assertEquals(10, (long) endRounds.get(0)),
+                    () -> assertEquals(10_000, (long) endRounds.get(999))
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+}
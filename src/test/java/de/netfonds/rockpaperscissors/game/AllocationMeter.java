@@ -0,0 +1,59 @@
+package de.netfonds.rockpaperscissors.game;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test helper asserting that a hot path does not allocate in steady state.
+ *
+ * <p>Measures the bytes allocated by the current thread via
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}. An action is run
+ * with a small and a large number of iterations after warming it up; any per-iteration
+ * allocation shows up as difference between both measurements, while fixed costs such as
+ * result objects and logging cancel out.
+ */
+final class AllocationMeter {
+
+    private static final int WARM_UP_RUNS = 20;
+    private static final int SMALL_ITERATIONS = 10_000;
+    private static final int LARGE_ITERATIONS = 1_010_000;
+
+    /**
+     * Allowed difference in bytes, far below one byte per iteration.
+     */
+    private static final long TOLERANCE_BYTES = 1024;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Asserts that the given action does not allocate per iteration.
+     *
+     * @param action action running the hot path the given number of iterations
+     */
+    static void assertNoSteadyStateAllocation(IntConsumer action) {
+        assumeTrue(THREAD_MX_BEAN.isThreadAllocatedMemorySupported()
+                        && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled(),
+                "Thread allocation measurement not available");
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            action.accept(LARGE_ITERATIONS);
+        }
+        final long small = allocatedBytes(action, SMALL_ITERATIONS);
+        final long large = allocatedBytes(action, LARGE_ITERATIONS);
+        assertTrue(large - small <= TOLERANCE_BYTES,
+                "Hot path allocated " + (large - small) + " bytes for "
+                        + (LARGE_ITERATIONS - SMALL_ITERATIONS) + " additional iterations");
+    }
+
+    private static long allocatedBytes(IntConsumer action, int iterations) {
+        final long before = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        action.accept(iterations);
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - before;
+    }
+}
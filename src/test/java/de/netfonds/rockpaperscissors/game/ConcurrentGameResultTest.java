@@ -0,0 +1,100 @@
+package de.netfonds.rockpaperscissors.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentGameResultTest {
+
+    @Test
+    public void testAccumulatesConcurrentGames() throws Exception {
+        // given
+        final int numberOfThreads = 4;
+        final int numberOfRounds = 100_000;
+        final var accumulator = new ConcurrentGameResult(numberOfThreads, 100);
+        final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+
+        // when
+        final List<Future<GameResult>> futures = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            futures.add(executor.submit(() -> {
+                try (final var recorder = accumulator.newRecorder()) {
+                    return createGame(recorder).playGame(numberOfRounds);
+                }
+            }));
+        }
+        long previousRounds = 0;
+        while (futures.stream().anyMatch(future -> !future.isDone())) {
+            final long rounds = accumulator.snapshot().numberOfRounds();
+            assertEquals(0, rounds % 100, "Snapshot contains a partial batch");
+            assertTrue(rounds >= previousRounds, "Snapshot went backwards");
+            previousRounds = rounds;
+        }
+        long playerAWins = 0;
+        long playerBWins = 0;
+        long draws = 0;
+        for (final Future<GameResult> future : futures) {
+            playerAWins += future.get().numberOfPlayerAWins();
+            playerBWins += future.get().numberOfPlayerBWins();
+            draws += future.get().numberOfDraws();
+        }
+        executor.shutdown();
+        final GameResult expected = new GameResult(playerAWins, playerBWins, draws);
+        final GameResult result = accumulator.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals((long) numberOfThreads * numberOfRounds, result.numberOfRounds()),
+                () -> assertEquals(expected, result)
+        );
+    }
+
+    @Test
+    public void testLimitsOpenRecorders() {
+        // given
+        final var accumulator = new ConcurrentGameResult(1, 10);
+
+        // when
+        final var recorder = accumulator.newRecorder();
+        recorder.onRoundPlayed(GameRoundResult.DRAW);
+
+        // then
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, accumulator::newRecorder),
+                () -> assertEquals(0, accumulator.snapshot().numberOfRounds())
+        );
+        recorder.close();
+        assertAll(
+                () -> assertEquals(1, accumulator.snapshot().numberOfDraws()),
+                () -> assertTrue(accumulator.newRecorder() != null)
+        );
+    }
+
+    /**
+     * Creates a game cycling through all outcomes.
+     */
+    private static Game<ClassicHandShape> createGame(GameRoundListener roundListener) {
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        final int[] round = new int[1];
+        return new Game.Builder<ClassicHandShape>()
+                .withPlayerA(() -> ClassicHandShape.PAPER)
+                .withPlayerB(() -> shapes[round[0]++ % shapes.length])
+                .withRules(
+                        GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                        GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                        GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                )
+                .withRoundListener(roundListener)
+                .build();
+    }
+
+}
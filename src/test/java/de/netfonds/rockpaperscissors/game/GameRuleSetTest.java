@@ -0,0 +1,96 @@
+package de.netfonds.rockpaperscissors.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameRuleSetTest {
+
+    @Test
+    public void testEqualRulesShareRuleSet() {
+        // given
+        final var ruleSet = createClassicRuleSet();
+
+        // when
+        final var sameRuleSet = createClassicRuleSet();
+
+        // then
+        assertSame(ruleSet, sameRuleSet);
+    }
+
+    @Test
+    public void testRuleResults() {
+        // given
+        final var ruleSet = createClassicRuleSet();
+
+        // when, then
+        assertAll(
+                () -> assertEquals(GameRuleResult.WIN, ruleSet.getRuleResult(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS)),
+                () -> assertEquals(GameRuleResult.LOSE, ruleSet.getRuleResult(ClassicHandShape.ROCK, ClassicHandShape.PAPER)),
+                () -> assertEquals(GameRuleResult.DRAW, ruleSet.getRuleResult(ClassicHandShape.ROCK, ClassicHandShape.ROCK))
+        );
+    }
+
+    @Test
+    public void testIncompleteRuleSet() {
+        assertThrows(Game.GameRuleNotFoundException.class, () -> GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK)
+        ));
+    }
+
+    @Test
+    public void testContradictingRuleSet() {
+        assertThrows(IllegalArgumentException.class, () -> GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS, ClassicHandShape.PAPER),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        ));
+    }
+
+    @Test
+    public void testUnbalancedRuleSet() {
+        assertThrows(IllegalArgumentException.class, () -> GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS, ClassicHandShape.PAPER),
+                GameRule.of(ClassicHandShape.PAPER),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        ));
+    }
+
+    @Test
+    public void testSelfDefeatingRuleSet() {
+        assertThrows(IllegalArgumentException.class, () -> GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        ));
+    }
+
+    @Test
+    public void testMixedVariantRuleSet() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> GameRuleSet.of(
+                        GameRule.<HandShape>of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                        GameRule.<HandShape>of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                        GameRule.<HandShape>of(LizardHandShape.SCISSORS, ClassicHandShape.PAPER)
+                )),
+                () -> assertThrows(IllegalArgumentException.class, () -> GameRuleSet.of(
+                        GameRule.<HandShape>of(ClassicHandShape.ROCK, LizardHandShape.SCISSORS),
+                        GameRule.<HandShape>of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                        GameRule.<HandShape>of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                ))
+        );
+    }
+
+    private GameRuleSet<ClassicHandShape> createClassicRuleSet() {
+        return GameRuleSet.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        );
+    }
+
+}
@@ -56,6 +56,20 @@ class GameRuleTest {
         );
     }
 
+    @Test
+    public void testGameRuleDoesNotAllocate() {
+        // given
+        final var rule = createGameRule();
+        final var opponent = GameStrategy.random(LizardHandShape.values(), 42);
+
+        // when, then
+        AllocationMeter.assertNoSteadyStateAllocation(iterations -> {
+            for (int i = 0; i < iterations; i++) {
+                rule.getRuleResult(opponent.getNextHandShape());
+            }
+        });
+    }
+
     private GameRule<LizardHandShape> createGameRule() {
         return GameRule.of(LizardHandShape.ROCK, LizardHandShape.SCISSORS, LizardHandShape.LIZARD);
     }
@@ -5,14 +5,23 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GameTest {
 
+    private static final GameRuleSet<ClassicHandShape> CLASSIC_RULES = GameRuleSet.of(
+            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+    );
+
     @Test
     public void testIncompleteRuleSet() {
         // given
@@ -140,6 +149,303 @@ class GameTest {
 
     }
 
+    @Test
+    public void testSeededGameIsDeterministic() {
+        // given
+        final var game = Game.Builder.newClassicHandShapeGame(42);
+        final var sameGame = Game.Builder.newClassicHandShapeGame(42);
+
+        // when
+        final GameResult result = game.playGame(1_000);
+        final GameResult sameResult = sameGame.playGame(1_000);
+
+        // then
+        assertAll(
+                () -> assertEquals(1_000, result.numberOfRounds()),
+                () -> assertEquals(result, sameResult)
+        );
+    }
+
+    @Test
+    public void testSeededGameOutcome() {
+        // given
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        final var playerB = GameStrategy.random(shapes, 42);
+        int expectedPlayerAWins = 0;
+        int expectedPlayerBWins = 0;
+        for (int i = 0; i < 1_000; i++) {
+            switch (playerB.getNextHandShape()) {
+                case ROCK -> expectedPlayerAWins++;
+                case SCISSORS -> expectedPlayerBWins++;
+                default -> {
+                }
+            }
+        }
+        final var game = Game.Builder.newClassicHandShapeGame(42);
+
+        // when
+        final GameResult result = game.playGame(1_000);
+
+        // then
+        final int finalExpectedPlayerAWins = expectedPlayerAWins;
+        final int finalExpectedPlayerBWins = expectedPlayerBWins;
+        assertAll(
+                () -> assertEquals(finalExpectedPlayerAWins, result.numberOfPlayerAWins()),
+                () -> assertEquals(finalExpectedPlayerBWins, result.numberOfPlayerBWins()),
+                () -> assertEquals(1_000 - finalExpectedPlayerAWins - finalExpectedPlayerBWins, result.numberOfDraws())
+        );
+    }
+
+    @Test
+    public void testPlayGameDoesNotAllocate() {
+        // given
+        final var game = Game.Builder.newLizardHandShapeGame(42);
+
+        // when, then
+        AllocationMeter.assertNoSteadyStateAllocation(game::playGame);
+    }
+
+
+    @Test
+    public void testGenericPlayGameDoesNotAllocate() {
+        // given
+        final GameStrategy<ClassicHandShape> playerA = GameStrategy.random(ClassicHandShape.values(), 7)::getNextHandShape;
+        final GameStrategy<ClassicHandShape> playerB = GameStrategy.random(ClassicHandShape.values(), 42)::getNextHandShape;
+        final var game = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(playerA)
+                .withPlayerB(playerB)
+                .withRules(CLASSIC_RULES)
+                .build();
+
+        // when, then
+        AllocationMeter.assertNoSteadyStateAllocation(game::playGame);
+    }
+
+    @Test
+    public void testPlayGameWithListenersDoesNotAllocate() {
+        // given
+        final long[] counts = new long[2];
+        final GameRoundListener roundListener = result -> counts[0]++;
+        final GameRoundRecorder roundRecorder = (handShapePlayerA, handShapePlayerB, result) -> counts[1]++;
+        final GameStrategy<ClassicHandShape> opaquePlayerA = GameStrategy.random(ClassicHandShape.values(), 7)::getNextHandShape;
+        final var specializedGame = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(GameStrategy.random(ClassicHandShape.values(), 7))
+                .withPlayerB(GameStrategy.random(ClassicHandShape.values(), 42))
+                .withRules(CLASSIC_RULES)
+                .withRoundListener(roundListener)
+                .withRoundRecorder(roundRecorder)
+                .build();
+        final var genericGame = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(opaquePlayerA)
+                .withPlayerB(GameStrategy.random(ClassicHandShape.values(), 42))
+                .withRules(CLASSIC_RULES)
+                .withRoundListener(roundListener)
+                .withRoundRecorder(roundRecorder)
+                .build();
+
+        // when, then
+        assertAll(
+                () -> AllocationMeter.assertNoSteadyStateAllocation(specializedGame::playGame),
+                () -> AllocationMeter.assertNoSteadyStateAllocation(genericGame::playGame),
+                () -> assertEquals(counts[0], counts[1])
+        );
+    }
+
+    @Test
+    public void testConstantGamesMatchGenericGames() {
+        for (final ClassicHandShape handShapePlayerA : ClassicHandShape.values()) {
+            for (final ClassicHandShape handShapePlayerB : ClassicHandShape.values()) {
+                assertSameAsGenericGame(
+                        () -> GameStrategy.constant(handShapePlayerA),
+                        () -> GameStrategy.constant(handShapePlayerB));
+            }
+        }
+    }
+
+    @Test
+    public void testConstantVersusSampledGameMatchesGenericGame() {
+        assertSameAsGenericGame(
+                () -> GameStrategy.constant(ClassicHandShape.SCISSORS),
+                () -> GameStrategy.weighted(ClassicHandShape.values(), new double[]{1, 3, 2}, 9));
+    }
+
+    @Test
+    public void testSampledVersusConstantGameMatchesGenericGame() {
+        assertSameAsGenericGame(
+                () -> GameStrategy.weighted(ClassicHandShape.values(), new double[]{3, 1, 2}, 5),
+                () -> GameStrategy.constant(ClassicHandShape.ROCK));
+    }
+
+    @Test
+    public void testSampledGamesMatchGenericGame() {
+        assertSameAsGenericGame(
+                () -> GameStrategy.random(ClassicHandShape.values(), 3),
+                () -> GameStrategy.weighted(ClassicHandShape.values(), new double[]{1, 1, 4}, 4));
+    }
+
+    @Test
+    public void testSpecializedGameMatchesGenericGame() {
+        // given
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        final Set<GameRule<ClassicHandShape>> rules = Set.of(
+                GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+        );
+        final var specializedPlayerA = GameStrategy.weighted(shapes, new double[]{1, 2, 3}, 7);
+        final var specializedPlayerB = GameStrategy.random(shapes, 11);
+        final var genericPlayerA = GameStrategy.weighted(shapes, new double[]{1, 2, 3}, 7);
+        final var genericPlayerB = GameStrategy.random(shapes, 11);
+        final GameStrategy<ClassicHandShape> opaquePlayerA = genericPlayerA::getNextHandShape;
+        final GameStrategy<ClassicHandShape> opaquePlayerB = genericPlayerB::getNextHandShape;
+        final var specializedGame = new TestGame(specializedPlayerA, specializedPlayerB, rules);
+        final var genericGame = new TestGame(opaquePlayerA, opaquePlayerB, rules);
+
+        // when
+        final GameResult result = specializedGame.playGame(10_000);
+        final GameResult genericResult = genericGame.playGame(10_000);
+
+        // then
+        assertAll(
+                () -> assertInstanceOf(StrategyDescriptor.Weighted.class, specializedPlayerA.descriptor()),
+                () -> assertInstanceOf(StrategyDescriptor.Stateful.class, opaquePlayerA.descriptor()),
+                () -> assertEquals(genericResult, result)
+        );
+    }
+
+    @Test
+    public void testConstantGameNotifiesEveryRound() {
+        // given
+        final int[] numberOfNotifications = new int[1];
+        final var game = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(GameStrategy.constant(ClassicHandShape.ROCK))
+                .withPlayerB(GameStrategy.constant(ClassicHandShape.SCISSORS))
+                .withRules(
+                        GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                        GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                        GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                )
+                .withRoundListener(result -> numberOfNotifications[0]++)
+                .build();
+
+        // when
+        final GameResult result = game.playGame(1_000);
+
+        // then
+        assertAll(
+                () -> assertEquals(1_000, numberOfNotifications[0]),
+                () -> assertEquals(new GameResult(1_000, 0, 0), result)
+        );
+    }
+
+    @Test
+    public void testNotifiesListenersAndRecorders() {
+        // given
+        final int[] numberOfPlayerAWins = new int[2];
+        final HandShape[] lastHandShapes = new HandShape[2];
+        final var game = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(() -> ClassicHandShape.PAPER)
+                .withPlayerB(() -> ClassicHandShape.ROCK)
+                .withRules(
+                        GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                        GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                        GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                )
+                .withRoundListener(result -> {
+                    if (result == GameRoundResult.PLAYER_A_WINS) {
+                        numberOfPlayerAWins[0]++;
+                    }
+                })
+                .withRoundRecorder((handShapePlayerA, handShapePlayerB, result) -> {
+                    if (result == GameRoundResult.PLAYER_A_WINS) {
+                        numberOfPlayerAWins[1]++;
+                    }
+                    lastHandShapes[0] = handShapePlayerA;
+                    lastHandShapes[1] = handShapePlayerB;
+                })
+                .build();
+
+        // when
+        game.playGame(10);
+
+        // then
+        assertAll(
+                () -> assertEquals(10, numberOfPlayerAWins[0]),
+                () -> assertEquals(10, numberOfPlayerAWins[1]),
+                () -> assertEquals(ClassicHandShape.PAPER, lastHandShapes[0]),
+                () -> assertEquals(ClassicHandShape.ROCK, lastHandShapes[1])
+        );
+    }
+
+    @Test
+    public void testWeightedStrategy() {
+        // given
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        final var onlyFirst = GameStrategy.weighted(shapes, new double[]{1, 0, 0}, 42);
+        final var skewed = GameStrategy.weighted(shapes, new double[]{1, 1, 2}, 42);
+        final int[] counts = new int[shapes.length];
+
+        // when
+        boolean onlyFirstPlayed = true;
+        for (int i = 0; i < 100_000; i++) {
+            onlyFirstPlayed &= onlyFirst.getNextHandShape() == shapes[0];
+            counts[skewed.getNextHandShape().ordinal()]++;
+        }
+
+        // then
+        final boolean finalOnlyFirstPlayed = onlyFirstPlayed;
+        assertAll(
+                () -> assertTrue(finalOnlyFirstPlayed),
+                () -> assertEquals(0.25, counts[0] / 100_000.0, 0.01),
+                () -> assertEquals(0.25, counts[1] / 100_000.0, 0.01),
+                () -> assertEquals(0.5, counts[2] / 100_000.0, 0.01)
+        );
+    }
+
+
+    /**
+     * Plays the same game through the specialized and the generic loop and compares the
+     * results and the rounds passed to a {@link GameRoundRecorder}.
+     */
+    private static void assertSameAsGenericGame(Supplier<GameStrategy<ClassicHandShape>> playerAFactory,
+                                                Supplier<GameStrategy<ClassicHandShape>> playerBFactory) {
+        // given
+        final GameStrategy<ClassicHandShape> playerA = playerAFactory.get();
+        final GameStrategy<ClassicHandShape> playerB = playerBFactory.get();
+        final GameStrategy<ClassicHandShape> opaquePlayerA = playerAFactory.get()::getNextHandShape;
+        final GameStrategy<ClassicHandShape> opaquePlayerB = playerBFactory.get()::getNextHandShape;
+        final StringBuilder rounds = new StringBuilder();
+        final StringBuilder genericRounds = new StringBuilder();
+        final var game = createRecordedGame(playerA, playerB, rounds);
+        final var genericGame = createRecordedGame(opaquePlayerA, opaquePlayerB, genericRounds);
+
+        // when
+        final GameResult result = game.playGame(1_000);
+        final GameResult genericResult = genericGame.playGame(1_000);
+
+        // then
+        assertAll(
+                () -> assertFalse(playerA.descriptor() instanceof StrategyDescriptor.Stateful),
+                () -> assertFalse(playerB.descriptor() instanceof StrategyDescriptor.Stateful),
+                () -> assertEquals(1_000, result.numberOfRounds()),
+                () -> assertEquals(genericResult, result),
+                () -> assertEquals(genericRounds.toString(), rounds.toString())
+        );
+    }
+
+    private static Game<ClassicHandShape> createRecordedGame(GameStrategy<ClassicHandShape> playerA,
+                                                             GameStrategy<ClassicHandShape> playerB,
+                                                             StringBuilder rounds) {
+        return new Game.Builder<ClassicHandShape>()
+                .withPlayerA(playerA)
+                .withPlayerB(playerB)
+                .withRules(CLASSIC_RULES)
+                .withRoundRecorder((handShapePlayerA, handShapePlayerB, result) -> rounds
+                        .append(handShapePlayerA.ordinal())
+                        .append(handShapePlayerB.ordinal())
+                        .append(result.ordinal()))
+                .build();
+    }
 
     private static class TestGame extends Game<ClassicHandShape> {
 
@@ -0,0 +1,133 @@
+package de.netfonds.rockpaperscissors.optimizer;
+
+import de.netfonds.rockpaperscissors.game.ClassicHandShape;
+import de.netfonds.rockpaperscissors.game.Game;
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRule;
+import de.netfonds.rockpaperscissors.game.GameRuleSet;
+import de.netfonds.rockpaperscissors.game.GameStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EvolutionaryOptimizerTest {
+
+    private static final GameRuleSet<ClassicHandShape> RULES = GameRuleSet.of(
+            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+    );
+
+    @Test
+    public void testFindsCounterToConstantStrategy() {
+        // given
+        final var optimizer = createOptimizer()
+                .withOpponent(() -> () -> ClassicHandShape.PAPER)
+                .build();
+
+        // when
+        final var candidate = optimizer.optimize();
+
+        // then
+        assertAll(
+                () -> assertNotNull(candidate),
+                () -> assertEquals(1.0, candidate.fitness(), 0.0),
+                () -> assertEquals(ClassicHandShape.SCISSORS, candidate.strategy().newPlayer().getNextHandShape())
+        );
+    }
+
+    @Test
+    public void testFindsCounterToCyclingStrategy() {
+        // given
+        final var optimizer = createOptimizer()
+                .withOpponent(EvolutionaryOptimizerTest::cyclingStrategy)
+                .build();
+
+        // when
+        final var candidate = optimizer.optimize();
+
+        // then
+        assertAll(
+                () -> assertNotNull(candidate),
+                () -> assertTrue(candidate.fitness() > 0.9, "Fitness " + candidate.fitness())
+        );
+    }
+
+    @Test
+    public void testCandidatePlaysItsFitnessInGame() {
+        assertAll(
+                () -> assertPlaysItsFitnessInGame(EvolutionaryOptimizerTest::cyclingStrategy),
+                () -> assertPlaysItsFitnessInGame(EvolutionaryOptimizerTest::counterLastMoveStrategy)
+        );
+    }
+
+    private void assertPlaysItsFitnessInGame(Supplier<GameStrategy<ClassicHandShape>> opponentFactory) {
+        // given
+        final var optimizer = createOptimizer()
+                .withOpponent(opponentFactory)
+                .build();
+        final var candidate = optimizer.optimize();
+        final var game = new Game.Builder<ClassicHandShape>()
+                .withPlayerA(candidate.strategy().newPlayer())
+                .withPlayerB(opponentFactory.get())
+                .withRules(RULES)
+                .build();
+
+        // when
+        final GameResult result = game.playGame(30);
+
+        // then
+        assertEquals(candidate.fitness(),
+                (double) (result.numberOfPlayerAWins() - result.numberOfPlayerBWins()) / result.numberOfRounds(),
+                1e-9);
+    }
+
+    private static GameStrategy<ClassicHandShape> cyclingStrategy() {
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        return new GameStrategy<>() {
+            private int round;
+
+            @Override
+            public ClassicHandShape getNextHandShape() {
+                return shapes[round++ % shapes.length];
+            }
+        };
+    }
+
+    /**
+     * Plays the hand shape beating the opponent's last move, so it depends on {@link GameStrategy#observe}.
+     */
+    private static GameStrategy<ClassicHandShape> counterLastMoveStrategy() {
+        final ClassicHandShape[] shapes = ClassicHandShape.values();
+        return new GameStrategy<>() {
+            private ClassicHandShape next = ClassicHandShape.ROCK;
+
+            @Override
+            public ClassicHandShape getNextHandShape() {
+                return next;
+            }
+
+            @Override
+            public void observe(ClassicHandShape opponentHandShape) {
+                next = shapes[(opponentHandShape.ordinal() + 1) % shapes.length];
+            }
+        };
+    }
+
+    private EvolutionaryOptimizer.Builder<ClassicHandShape> createOptimizer() {
+        return new EvolutionaryOptimizer.Builder<ClassicHandShape>()
+                .withRules(RULES)
+                .withPopulationSize(100)
+                .withNumberOfStates(3)
+                .withNumberOfGenerations(40)
+                .withGamesPerOpponent(1)
+                .withRoundsPerGame(30)
+                .withSeed(42);
+    }
+
+}
@@ -0,0 +1,148 @@
+package de.netfonds.rockpaperscissors.recording;
+
+import de.netfonds.rockpaperscissors.game.ClassicHandShape;
+import de.netfonds.rockpaperscissors.game.Game;
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import de.netfonds.rockpaperscissors.game.GameRule;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OutcomeBitmapTest {
+
+    private static final GameRoundResult[] RESULTS = GameRoundResult.values();
+
+    @Test
+    public void testQueriesMatchRecordedRounds() {
+        // given
+        final GameRoundResult[] rounds = createRounds(5_003);
+        try (final var bitmap = new OutcomeBitmap()) {
+
+            // when
+            for (final GameRoundResult round : rounds) {
+                bitmap.onRoundPlayed(round);
+            }
+
+            // then
+            assertMatches(rounds, bitmap);
+        }
+    }
+
+    @Test
+    public void testQueriesMatchSpilledRounds() throws Exception {
+        // given
+        final GameRoundResult[] rounds = createRounds(1_000);
+        try (final var bitmap = new OutcomeBitmap(0, Files.createTempDirectory("outcomes"))) {
+
+            // when
+            for (final GameRoundResult round : rounds) {
+                bitmap.onRoundPlayed(round);
+            }
+
+            // then
+            assertMatches(rounds, bitmap);
+        }
+    }
+
+    @Test
+    public void testRecordsGameRounds() {
+        // given
+        try (final var bitmap = new OutcomeBitmap()) {
+            final var game = new Game.Builder<ClassicHandShape>()
+                    .withPlayerA(() -> ClassicHandShape.PAPER)
+                    .withPlayerB(() -> ClassicHandShape.ROCK)
+                    .withRules(
+                            GameRule.of(ClassicHandShape.ROCK, ClassicHandShape.SCISSORS),
+                            GameRule.of(ClassicHandShape.PAPER, ClassicHandShape.ROCK),
+                            GameRule.of(ClassicHandShape.SCISSORS, ClassicHandShape.PAPER)
+                    )
+                    .withRoundListener(bitmap)
+                    .build();
+
+            // when
+            final GameResult result = game.playGame(100);
+
+            // then
+            assertAll(
+                    () -> assertEquals(100, bitmap.numberOfRounds()),
+                    () -> assertEquals(result.numberOfPlayerAWins(), bitmap.count(GameRoundResult.PLAYER_A_WINS, 0, 100)),
+                    () -> assertEquals(100, bitmap.longestStreak(GameRoundResult.PLAYER_A_WINS)),
+                    () -> assertEquals(100, bitmap.currentStreak(GameRoundResult.PLAYER_A_WINS)),
+                    () -> assertEquals(1, bitmap.numberOfRuns(GameRoundResult.PLAYER_A_WINS, 0, 100))
+            );
+        }
+    }
+
+    private static void assertMatches(GameRoundResult[] rounds, OutcomeBitmap bitmap) {
+        assertEquals(rounds.length, bitmap.numberOfRounds());
+        for (int i = 0; i < rounds.length; i++) {
+            assertEquals(rounds[i], bitmap.get(i));
+        }
+        final int[][] ranges = {{0, rounds.length}, {0, 32}, {5, 37}, {31, 33}, {17, rounds.length - 3}, {64, 64}};
+        for (final GameRoundResult result : RESULTS) {
+            for (final int[] range : ranges) {
+                assertEquals(count(rounds, result, range[0], range[1]), bitmap.count(result, range[0], range[1]),
+                        "count " + result + " " + range[0] + ".." + range[1]);
+                assertEquals(longestStreak(rounds, result, range[0], range[1]), bitmap.longestStreak(result, range[0], range[1]),
+                        "streak " + result + " " + range[0] + ".." + range[1]);
+                assertEquals(numberOfRuns(rounds, result, range[0], range[1]), bitmap.numberOfRuns(result, range[0], range[1]),
+                        "runs " + result + " " + range[0] + ".." + range[1]);
+            }
+            assertEquals(currentStreak(rounds, result), bitmap.currentStreak(result), "current streak " + result);
+        }
+    }
+
+    private static GameRoundResult[] createRounds(int numberOfRounds) {
+        final Random random = new Random(7);
+        final GameRoundResult[] rounds = new GameRoundResult[numberOfRounds];
+        for (int i = 0; i < numberOfRounds; i++) {
+            // long runs of draws to cross word boundaries
+            rounds[i] = i % 500 < 80 ? GameRoundResult.DRAW : RESULTS[random.nextInt(RESULTS.length)];
+        }
+        return rounds;
+    }
+
+    private static long count(GameRoundResult[] rounds, GameRoundResult result, int from, int to) {
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            if (rounds[i] == result) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long longestStreak(GameRoundResult[] rounds, GameRoundResult result, int from, int to) {
+        long longest = 0;
+        long current = 0;
+        for (int i = from; i < to; i++) {
+            current = rounds[i] == result ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+
+    private static long numberOfRuns(GameRoundResult[] rounds, GameRoundResult result, int from, int to) {
+        long runs = 0;
+        for (int i = from; i < to; i++) {
+            if (rounds[i] == result && (i == from || rounds[i - 1] != result)) {
+                runs++;
+            }
+        }
+        return runs;
+    }
+
+    private static long currentStreak(GameRoundResult[] rounds, GameRoundResult result) {
+        long streak = 0;
+        for (int i = rounds.length - 1; i >= 0 && rounds[i] == result; i--) {
+            streak++;
+        }
+        return streak;
+    }
+
+}
@@ -0,0 +1,54 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DecayingStatisticsTest {
+
+    @Test
+    public void testWeightHalvesEveryHalfLife() {
+        // given
+        final var statistics = new DecayingStatistics(10);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            statistics.onRoundPlayed(GameRoundResult.PLAYER_A_WINS);
+        }
+        final DecayingStatistics.Rates afterOneHalfLife = statistics.snapshot();
+        for (int i = 0; i < 10; i++) {
+            statistics.onRoundPlayed(GameRoundResult.PLAYER_B_WINS);
+        }
+        final DecayingStatistics.Rates afterTwoHalfLives = statistics.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals(0.5, afterOneHalfLife.playerAWinRate(), 1e-12),
+                () -> assertEquals(0, afterOneHalfLife.playerBWinRate(), 0),
+                () -> assertEquals(0.25, afterTwoHalfLives.playerAWinRate(), 1e-12),
+                () -> assertEquals(0.5, afterTwoHalfLives.playerBWinRate(), 1e-12),
+                () -> assertEquals(0, afterTwoHalfLives.drawRate(), 0)
+        );
+    }
+
+    @Test
+    public void testRatesSumUpToWeightOfHistory() {
+        // given
+        final var statistics = new DecayingStatistics(3);
+        final GameRoundResult[] results = GameRoundResult.values();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            statistics.onRoundPlayed(results[i % results.length]);
+        }
+        final DecayingStatistics.Rates rates = statistics.snapshot();
+
+        // then
+        assertEquals(1 - Math.pow(0.5, 100 / 3.0),
+                rates.playerAWinRate() + rates.playerBWinRate() + rates.drawRate(),
+                1e-12);
+    }
+
+}
@@ -0,0 +1,98 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlidingWindowStatisticsTest {
+
+    @Test
+    public void testCountsPartialWindow() {
+        // given
+        final var statistics = new SlidingWindowStatistics(10);
+
+        // when
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_A_WINS);
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_B_WINS);
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_B_WINS);
+        final GameResult result = statistics.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals(1, result.numberOfPlayerAWins()),
+                () -> assertEquals(2, result.numberOfPlayerBWins()),
+                () -> assertEquals(0, result.numberOfDraws())
+        );
+    }
+
+    @Test
+    public void testForgetsRoundsLeavingWindow() {
+        // given
+        final var statistics = new SlidingWindowStatistics(3);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            statistics.onRoundPlayed(GameRoundResult.PLAYER_A_WINS);
+        }
+        statistics.onRoundPlayed(GameRoundResult.DRAW);
+        final GameResult result = statistics.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals(3, result.numberOfRounds()),
+                () -> assertEquals(2, result.numberOfPlayerAWins()),
+                () -> assertEquals(0, result.numberOfPlayerBWins()),
+                () -> assertEquals(1, result.numberOfDraws())
+        );
+    }
+
+    @Test
+    public void testSnapshotIsConsistentWhileWriting() throws InterruptedException {
+        // given
+        final int windowSize = 1_000;
+        final int numberOfRounds = 2_000_000;
+        final var statistics = new SlidingWindowStatistics(windowSize);
+        final GameRoundResult[] results = GameRoundResult.values();
+        final AtomicLong playedRounds = new AtomicLong();
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < numberOfRounds; i++) {
+                statistics.onRoundPlayed(results[i % results.length]);
+                playedRounds.set(i + 1);
+            }
+        });
+
+        // when
+        writer.start();
+        long numberOfSnapshots = 0;
+        long numberOfInconsistentSnapshots = 0;
+        while (writer.isAlive()) {
+            final long roundsBefore = playedRounds.get();
+            final GameResult result = statistics.snapshot();
+            final long roundsAfter = playedRounds.get();
+            numberOfSnapshots++;
+            // the round being written when reading started may or may not be included
+            if (result.numberOfRounds() < Math.min(roundsBefore, windowSize)
+                    || result.numberOfRounds() > Math.min(roundsAfter + 1, windowSize)) {
+                numberOfInconsistentSnapshots++;
+            }
+        }
+        writer.join();
+        final GameResult result = statistics.snapshot();
+
+        // then
+        final long finalNumberOfSnapshots = numberOfSnapshots;
+        final long finalNumberOfInconsistentSnapshots = numberOfInconsistentSnapshots;
+        assertAll(
+                () -> assertTrue(finalNumberOfSnapshots > 0),
+                () -> assertEquals(0, finalNumberOfInconsistentSnapshots),
+                () -> assertEquals(windowSize, result.numberOfRounds())
+        );
+    }
+
+}
@@ -0,0 +1,61 @@
+package de.netfonds.rockpaperscissors.statistics;
+
+import de.netfonds.rockpaperscissors.game.GameResult;
+import de.netfonds.rockpaperscissors.game.GameRoundResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimeBucketedStatisticsTest {
+
+    private static final long MINUTE = Duration.ofMinutes(1).toNanos();
+
+    @Test
+    public void testCountsPerBucket() {
+        // given
+        final AtomicLong clock = new AtomicLong();
+        final var statistics = new TimeBucketedStatistics(Duration.ofMinutes(1), 3, clock::get);
+
+        // when
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_A_WINS);
+        clock.addAndGet(MINUTE);
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_B_WINS);
+        statistics.onRoundPlayed(GameRoundResult.DRAW);
+        final List<GameResult> results = statistics.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals(3, results.size()),
+                () -> assertEquals(new GameResult(0, 0, 0), results.get(0)),
+                () -> assertEquals(new GameResult(1, 0, 0), results.get(1)),
+                () -> assertEquals(new GameResult(0, 1, 1), results.get(2))
+        );
+    }
+
+    @Test
+    public void testExpiresOldBuckets() {
+        // given
+        final AtomicLong clock = new AtomicLong();
+        final var statistics = new TimeBucketedStatistics(Duration.ofMinutes(1), 2, clock::get);
+
+        // when
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_A_WINS);
+        clock.addAndGet(2 * MINUTE);
+        statistics.onRoundPlayed(GameRoundResult.PLAYER_B_WINS);
+        clock.addAndGet(MINUTE);
+        final List<GameResult> results = statistics.snapshot();
+
+        // then
+        assertAll(
+                () -> assertEquals(2, results.size()),
+                () -> assertEquals(new GameResult(0, 1, 0), results.get(0)),
+                () -> assertEquals(new GameResult(0, 0, 0), results.get(1))
+        );
+    }
+
+}